@@ -0,0 +1,143 @@
+package me.dzikimlecz.chessapi;
+
+import me.dzikimlecz.chessapi.game.board.Color;
+import me.dzikimlecz.chessapi.game.board.pieces.Piece;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Listener passing notifications to another listener on an executor, so a slow listener doesn't
+ * stall the thread of its game. Notifications are queued and delivered in order of their
+ * submission, all the queued ones in one task of the executor.
+ * <br>{@link #onPawnExchange()} and {@link #onDrawRequest(Color)} return values needed by the
+ * game, so they are called on the thread of the game, after it delivers all the queued
+ * notifications itself. The wrapped listener is never called by two threads at once, so it
+ * doesn't have to be thread-safe, but the game waits for a batch being delivered on the executor.
+ * @see me.dzikimlecz.chessapi.manager.ManagerOptions#listenerExecutor(Executor)
+ */
+public final class AsyncChessEventListener implements ChessEventListener {
+	private static final int MAX_BATCH_SIZE = 64;
+
+	private final ChessEventListener listener;
+	private final Executor executor;
+	private final Queue<Notification> notifications = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	/**
+	 * Held while calling the listener, so it's called by one thread at a time.
+	 */
+	private final Object deliveryLock = new Object();
+
+	private record Notification(Runnable action, long submitted) {}
+
+	public AsyncChessEventListener(@NotNull ChessEventListener listener, @NotNull Executor executor) {
+		this.listener = listener;
+		this.executor = executor;
+	}
+
+	/**
+	 * Gets the listener to which notifications are passed.
+	 */
+	public ChessEventListener listener() {
+		return listener;
+	}
+
+	/**
+	 * Gets count of notifications, which haven't been delivered yet.
+	 */
+	public int pending() {
+		return pending.get();
+	}
+
+	/**
+	 * Gets how long the oldest of not delivered notifications has been waiting.
+	 * @return time of waiting or zero if all notifications have been delivered
+	 */
+	public Duration lag() {
+		var oldest = notifications.peek();
+		return (oldest == null) ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - oldest.submitted());
+	}
+
+	private void submit(Runnable action) {
+		notifications.add(new Notification(action, System.nanoTime()));
+		pending.incrementAndGet();
+		schedule();
+	}
+
+	private void schedule() {
+		// the flag guarantees that notifications are delivered by one thread at a time, in order
+		if (scheduled.compareAndSet(false, true)) executor.execute(this::deliver);
+	}
+
+	/**
+	 * Delivers the queued notifications, up to a limit, so one listener doesn't occupy the
+	 * executor for long.
+	 */
+	private void deliver() {
+		try {
+			synchronized (deliveryLock) {
+				Notification notification;
+				for (int i = 0; i < MAX_BATCH_SIZE && (notification = notifications.poll()) != null; i++) {
+					pending.decrementAndGet();
+					notification.action().run();
+				}
+			}
+		} finally {
+			scheduled.set(false);
+			if (!notifications.isEmpty()) schedule();
+		}
+	}
+
+	/**
+	 * Delivers all the queued notifications on the calling thread. Has to be called holding
+	 * {@link #deliveryLock}.
+	 */
+	private void deliverAll() {
+		Notification notification;
+		while ((notification = notifications.poll()) != null) {
+			pending.decrementAndGet();
+			notification.action().run();
+		}
+	}
+
+	@Override public void onMate(Color winner) {
+		submit(() -> listener.onMate(winner));
+	}
+
+	@Override public void onDraw(DrawReason reason) {
+		submit(() -> listener.onDraw(reason));
+	}
+
+	@Override public void onMoveHandled() {
+		submit(listener::onMoveHandled);
+	}
+
+	@Override public void onCheck(Color checked) {
+		submit(() -> listener.onCheck(checked));
+	}
+
+	@Override public void onIllegalMove() {
+		submit(listener::onIllegalMove);
+	}
+
+	@Override public boolean onDrawRequest(Color requester) {
+		synchronized (deliveryLock) {
+			// the request mustn't overtake notifications submitted before it
+			deliverAll();
+			return listener.onDrawRequest(requester);
+		}
+	}
+
+	@Override public Class<? extends Piece> onPawnExchange() {
+		synchronized (deliveryLock) {
+			deliverAll();
+			return listener.onPawnExchange();
+		}
+	}
+}
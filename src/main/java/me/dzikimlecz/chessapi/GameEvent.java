@@ -0,0 +1,28 @@
+package me.dzikimlecz.chessapi;
+
+import me.dzikimlecz.chessapi.game.board.Color;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Event of a game, published to its subscribers.
+ * @param game name of the game (key of the game for games created by managers)
+ * @param type type of the event
+ * @param move result of the move, which caused the event, null for draws by players' decision
+ * @param color color of the player who made the move ({@link Type#MOVE},
+ *              {@link Type#ILLEGAL_MOVE}), is checked ({@link Type#CHECK}) or won ({@link Type#MATE}),
+ *              null for draws
+ * @param drawReason reason of the draw, null for other events
+ * @see me.dzikimlecz.chessapi.game.ChessGame#events()
+ * @see me.dzikimlecz.chessapi.manager.GamesManager#events()
+ */
+public record GameEvent(@NotNull String game,
+						@NotNull Type type,
+						@Nullable MoveResult move,
+						@Nullable Color color,
+						@Nullable DrawReason drawReason) {
+
+	public enum Type {
+		MOVE, ILLEGAL_MOVE, CHECK, MATE, DRAW
+	}
+}
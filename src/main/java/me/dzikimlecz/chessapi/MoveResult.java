@@ -0,0 +1,38 @@
+package me.dzikimlecz.chessapi;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Result of a move submitted to a game.
+ * @param legal whether the move was legal and has been made
+ * @param notation standard algebraic notation of the move (e.g. {@code Nbxd7} or {@code bxa8=Q+}),
+ *                 or the submitted notation if the move was illegal
+ * @param outcome what the move caused
+ * @param drawReason reason of the draw if the outcome is {@link Outcome#DRAW}, otherwise null
+ * @param positionKey Zobrist key of the position after the move (or of the unchanged position if the
+ *                    move was illegal)
+ * @see me.dzikimlecz.chessapi.manager.GamesManager#submitMove(Object, String)
+ */
+public record MoveResult(boolean legal,
+						 @NotNull String notation,
+						 @NotNull Outcome outcome,
+						 @Nullable DrawReason drawReason,
+						 long positionKey) {
+
+	public enum Outcome {
+		NONE, CHECK, MATE, DRAW
+	}
+
+	public static MoveResult illegal(@NotNull String notation, long positionKey) {
+		return new MoveResult(false, notation, Outcome.NONE, null, positionKey);
+	}
+
+	public static MoveResult legal(@NotNull String notation, @NotNull Outcome outcome, long positionKey) {
+		return new MoveResult(true, notation, outcome, null, positionKey);
+	}
+
+	public static MoveResult draw(@NotNull String notation, @NotNull DrawReason reason, long positionKey) {
+		return new MoveResult(true, notation, Outcome.DRAW, reason, positionKey);
+	}
+}
@@ -2,34 +2,50 @@ package me.dzikimlecz.chessapi.game;
 
 import me.dzikimlecz.chessapi.ChessEventListener;
 import me.dzikimlecz.chessapi.DrawReason;
+import me.dzikimlecz.chessapi.GameEvent;
+import me.dzikimlecz.chessapi.MoveResult;
+import me.dzikimlecz.chessapi.game.board.Bitboards;
 import me.dzikimlecz.chessapi.game.board.Board;
+import me.dzikimlecz.chessapi.game.board.Move;
+import me.dzikimlecz.chessapi.game.board.MoveList;
 import me.dzikimlecz.chessapi.game.board.pieces.ChessPiece;
 import me.dzikimlecz.chessapi.game.board.pieces.Movable;
 import me.dzikimlecz.chessapi.game.board.Color;
 import me.dzikimlecz.chessapi.game.board.pieces.Takeable;
 import me.dzikimlecz.chessapi.game.events.ChessEvent;
+import me.dzikimlecz.chessapi.game.events.GameOverloadedException;
+import me.dzikimlecz.chessapi.game.events.OverloadPolicy;
 import me.dzikimlecz.chessapi.game.moveanalysing.*;
 import me.dzikimlecz.chessapi.game.moveparsing.IMoveParser;
 import me.dzikimlecz.chessapi.game.moveparsing.IMoveValidator;
 import me.dzikimlecz.chessapi.game.moveparsing.MoveParser;
 import me.dzikimlecz.chessapi.game.moveparsing.MoveValidator;
 import me.dzikimlecz.chessapi.game.movestoring.GameState;
-import me.dzikimlecz.chessapi.game.movestoring.ListMoveDatabase;
 import me.dzikimlecz.chessapi.game.movestoring.MoveData;
 import me.dzikimlecz.chessapi.game.movestoring.MoveDatabase;
+import me.dzikimlecz.chessapi.game.movestoring.PackedMoveDatabase;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import static me.dzikimlecz.chessapi.game.board.Color.BLACK;
 import static me.dzikimlecz.chessapi.game.board.Color.WHITE;
 
 public final class ChessGame implements Runnable {
 	private static final AtomicLong games = new AtomicLong();
+	private static final int DEFAULT_QUEUE_CAPACITY = 50;
 	private final IMoveAnalyser pawnExchangeAnalyser;
 	private final MoveDatabase moveDatabase;
 	private final ChessEventListener listener;
@@ -46,6 +62,21 @@ public final class ChessGame implements Runnable {
 	private final AtomicBoolean hasStopped;
 	private Thread thread;
 
+	private Executor executor;
+	private int batchSize;
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	private final int queueCapacity;
+	private OverloadPolicy overloadPolicy = OverloadPolicy.BLOCK;
+	private Duration blockTimeout;
+	private final LongAdder rejectedEvents = new LongAdder();
+	private final LongAdder droppedEvents = new LongAdder();
+	private final LongAdder missedGameEvents = new LongAdder();
+
+	private volatile SubmissionPublisher<GameEvent> publisher;
+	private volatile PositionSnapshot snapshot;
+	private SubmissionPublisher<GameEvent> sharedPublisher;
+
 
 	private final String name;
 	public String getName() {
@@ -61,7 +92,14 @@ public final class ChessGame implements Runnable {
 		private IDrawAnalyser drawAnalyser;
 		private IMoveValidator enPassantCastlingValidator;
 		private IMoveAnalyser checkAnalyser;
+		private String fen;
 		private String name;
+		private Executor executor;
+		private int batchSize;
+		private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+		private OverloadPolicy overloadPolicy;
+		private Duration blockTimeout;
+		private SubmissionPublisher<GameEvent> sharedPublisher;
 
 		public Builder(@NotNull ChessEventListener chessGameEventListener) {
 			this.listener = chessGameEventListener;
@@ -102,15 +140,77 @@ public final class ChessGame implements Runnable {
 			return this;
 		}
 
-		public void name(String name) {
+		/**
+		 * Sets position, from which the game starts, in FEN. By default it's the initial position.
+		 */
+		public Builder fen(@NotNull String fen) {
+			this.fen = fen;
+			return this;
+		}
+
+		public Builder name(String name) {
 			this.name = name;
+			return this;
+		}
+
+		/**
+		 * Makes the game event-driven: instead of running it on its own thread, each submitted event
+		 * schedules the game on the executor (unless it is already scheduled), which then processes
+		 * up to {@code batchSize} queued events in one run.
+		 * @param executor executor shared by games, preferably a work-stealing pool
+		 * @param batchSize maximal count of events processed in one scheduling slot
+		 * @see ChessGame#handleEvent(ChessEvent)
+		 */
+		public Builder scheduler(@NotNull Executor executor, int batchSize) {
+			if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive");
+			this.executor = executor;
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		/**
+		 * Sets count of events, which may wait in the queue of the game. 50 by default.
+		 */
+		public Builder queueCapacity(int queueCapacity) {
+			if (queueCapacity < 1) throw new IllegalArgumentException("Queue capacity must be positive");
+			this.queueCapacity = queueCapacity;
+			return this;
+		}
+
+		/**
+		 * Sets what the game does with events submitted when its queue is full.
+		 * {@link OverloadPolicy#BLOCK} by default.
+		 */
+		public Builder overloadPolicy(@NotNull OverloadPolicy overloadPolicy) {
+			this.overloadPolicy = overloadPolicy;
+			return this;
+		}
+
+		/**
+		 * Sets how long a thread submitting an event may wait for space in a full queue with
+		 * {@link OverloadPolicy#BLOCK} policy. Without timeout it waits as long as it's needed.
+		 */
+		public Builder blockTimeout(@NotNull Duration blockTimeout) {
+			this.blockTimeout = blockTimeout;
+			return this;
+		}
+
+		/**
+		 * Makes the game publish its events also through the publisher, e.g. one shared by all games
+		 * of a manager. The publisher isn't closed when the game stops.
+		 * @see ChessGame#events()
+		 */
+		public Builder publishTo(@NotNull SubmissionPublisher<GameEvent> publisher) {
+			this.sharedPublisher = publisher;
+			return this;
 		}
 
 		public ChessGame build() {
 			validator = Objects.requireNonNullElseGet(validator, MoveValidator::new);
-			return new ChessGame(
+			var game = new ChessGame(
 					listener,
-					Objects.requireNonNullElseGet(moveDatabase, ListMoveDatabase::new),
+					(fen == null) ? Board.create() : Board.createFromFEN(fen),
+					Objects.requireNonNullElseGet(moveDatabase, PackedMoveDatabase::new),
 					Objects.requireNonNullElseGet(parser, MoveParser::new),
 					validator,
 					Objects.requireNonNullElseGet(enPassantCastlingValidator,
@@ -126,32 +226,43 @@ public final class ChessGame implements Runnable {
 						return drawAnalyser1;
 					}),
 					Objects.requireNonNullElseGet(pawnExchangeAnalyser, PawnExchangeAnalyser::new),
-					Objects.requireNonNullElse(name, "Game: %x".formatted(Long.hashCode(games.getAndIncrement())))
+					Objects.requireNonNullElse(name, "Game: %x".formatted(Long.hashCode(games.getAndIncrement()))),
+					queueCapacity
 			);
+			game.executor = executor;
+			game.batchSize = batchSize;
+			game.overloadPolicy = Objects.requireNonNullElse(overloadPolicy, OverloadPolicy.BLOCK);
+			game.blockTimeout = blockTimeout;
+			game.sharedPublisher = sharedPublisher;
+			return game;
 		}
 
 	}
 
 	public ChessGame(ChessEventListener listener) {
-		this(listener, new ListMoveDatabase(), new MoveParser(), new MoveValidator(),
+		this(listener, Board.create(), new PackedMoveDatabase(), new MoveParser(), new MoveValidator(),
 		     new EnPassantCastlingValidator(), new CheckAnalyser(), new DrawAnalyser(),
-		     new PawnExchangeAnalyser(), "Game: %x".formatted(games.getAndIncrement()));
+		     new PawnExchangeAnalyser(), "Game: %x".formatted(games.getAndIncrement()),
+		     DEFAULT_QUEUE_CAPACITY);
 		checkAnalyser.setValidator(validator);
 		drawAnalyser.setValidator(validator);
 	}
 
 	private ChessGame(@NotNull ChessEventListener listener,
+					  @NotNull Board board,
 					  @NotNull MoveDatabase moveDatabase,
 					  @NotNull IMoveParser parser,
 					  @NotNull IMoveValidator validator,
 					  @NotNull IMoveValidator enPassantCastlingValidator,
 					  @NotNull IMoveAnalyser checkAnalyser,
 					  @NotNull IDrawAnalyser drawAnalyser,
-					  @NotNull IMoveAnalyser pawnExchangeAnalyser, String name) {
+					  @NotNull IMoveAnalyser pawnExchangeAnalyser, String name,
+					  int queueCapacity) {
 		super();
 		this.name = name;
-		this.events = new ArrayBlockingQueue<>(50);
-		this.board = Board.create();
+		this.queueCapacity = queueCapacity;
+		this.events = new ArrayBlockingQueue<>(queueCapacity);
+		this.board = board;
 		this.gameState = new GameState();
 		gameState.setBoard(board);
 		gameState.setColor(WHITE);
@@ -165,6 +276,8 @@ public final class ChessGame implements Runnable {
 		this.checkAnalyser = checkAnalyser;
 		this.pawnExchangeAnalyser = pawnExchangeAnalyser;
 		this.pawnExchangeProcessor = new PawnExchangeProcessor();
+		moveDatabase.putPosition(board.zobristKey(), true);
+		snapshot = PositionSnapshot.of(board, 0);
 		initProcessors();
 	}
 
@@ -179,83 +292,313 @@ public final class ChessGame implements Runnable {
 		drawAnalyser.setMoveDatabase(moveDatabase);
 	}
 
+	/**
+	 * Processes events of the game on the current thread until the game stops.
+	 * @throws IllegalStateException if the game is event-driven
+	 * @see Builder#scheduler(Executor, int)
+	 */
 	@Override public void run() {
+		if (executor != null) throw new IllegalStateException("Game is run by its scheduler");
 		thread = Thread.currentThread();
 		try {
-			while (isOngoing()) {
-				var event = events.take();
-				switch (event.getType()) {
-					case DRAW_REQUEST -> requestDraw(
-							event.getNotation().contains(WHITE.name().toLowerCase()) ? WHITE : BLACK
-					);
-					case CLOSE -> stopGame();
-					case MOVE -> handleMove(event.getNotation());
-				}
-			}
+			while (isOngoing()) process(events.take());
 		} catch(InterruptedException e) {
 			stopGame();
 		}
 	}
 
+	private void process(ChessEvent event) {
+		try {
+			switch (event.getType()) {
+				case DRAW_REQUEST -> requestDraw(
+						event.getNotation().contains(WHITE.name().toLowerCase()) ? WHITE : BLACK
+				);
+				case CLOSE -> stopGame();
+				case MOVE -> event.complete(handleMove(event.getNotation()));
+				case BATCH -> event.complete(handleBatch(event.getNotations()));
+			}
+		} catch(RuntimeException e) {
+			event.fail(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Queues the event. Event-driven games are scheduled on their executor, if they aren't already.
+	 * @throws GameOverloadedException if the queue is full and the event is rejected according to
+	 * the overload policy of the game
+	 * @see Builder#overloadPolicy(OverloadPolicy)
+	 */
 	public void handleEvent(ChessEvent event) throws InterruptedException {
 		if (hasStopped.get()) throw new IllegalStateException("Game is not ongoing");
-		events.put(event);
+		switch (overloadPolicy) {
+			case REJECT -> {
+				if (!events.offer(event)) reject();
+			}
+			case BLOCK -> {
+				if (blockTimeout == null) events.put(event);
+				else if (!events.offer(event, blockTimeout.toNanos(), TimeUnit.NANOSECONDS)) reject();
+			}
+			case DROP_OLDEST -> {
+				while (!events.offer(event)) {
+					var dropped = events.poll();
+					if (dropped == null) continue;
+					droppedEvents.increment();
+					dropped.fail(new GameOverloadedException(name, queueCapacity));
+				}
+			}
+		}
+		// the game might have stopped after the check, then the event would never be processed
+		if (hasStopped.get()) discardEvents();
+		else if (executor != null) schedule();
+	}
+
+	private void reject() {
+		rejectedEvents.increment();
+		throw new GameOverloadedException(name, queueCapacity);
+	}
+
+	/**
+	 * Gets count of events waiting in the queue of the game.
+	 */
+	public int queueDepth() {
+		return events.size();
+	}
+
+	/**
+	 * Gets count of events rejected, as the queue was full.
+	 */
+	public long rejectedEvents() {
+		return rejectedEvents.sum();
+	}
+
+	/**
+	 * Gets count of published game events, which subscribers missed, as their buffers were full.
+	 * An event missed by several subscribers is counted once for each of them.
+	 * @see #events()
+	 */
+	public long missedGameEvents() {
+		return missedGameEvents.sum();
+	}
+
+	/**
+	 * Gets count of queued events dropped to make space for newer ones.
+	 * @see OverloadPolicy#DROP_OLDEST
+	 */
+	public long droppedEvents() {
+		return droppedEvents.sum();
+	}
+
+	/**
+	 * Fails futures of events which won't be processed, as the game has stopped.
+	 */
+	private void discardEvents() {
+		for (ChessEvent event; (event = events.poll()) != null; )
+			event.fail(new IllegalStateException("Game is not ongoing"));
+	}
+
+	private void schedule() {
+		// the flag guarantees that only one thread at a time processes events of the game
+		if (scheduled.compareAndSet(false, true)) executor.execute(this::drain);
+	}
+
+	/**
+	 * Processes up to batch size of queued events, then reschedules the game if any are left, so
+	 * games with many events don't starve the others.
+	 */
+	private void drain() {
+		try {
+			ChessEvent event;
+			for (int i = 0; i < batchSize && isOngoing() && (event = events.poll()) != null; i++)
+				process(event);
+		} finally {
+			scheduled.set(false);
+			// events queued after the last poll but before resetting the flag were not scheduled
+			if (!events.isEmpty() && isOngoing()) schedule();
+		}
+	}
+
+	/**
+	 * Gets snapshot of the position after the last move. Unlike the board, it may be safely read
+	 * from any thread.
+	 */
+	public PositionSnapshot snapshot() {
+		return snapshot;
 	}
 
 	public Board board() {
 		return board;
 	}
 
-	private void handleMove(String notation) {
-		move(validator.validate(parser.parse(notation)));
+	/**
+	 * Gets all legal moves of the player whose turn it is, after the last move.
+	 * @return new list of packed moves
+	 * @see #legalMoves(MoveList)
+	 */
+	public MoveList legalMoves() {
+		var moves = new MoveList();
+		legalMoves(moves);
+		return moves;
 	}
 
-	private void move(MoveData data) {
+	/**
+	 * Puts all legal moves of the player whose turn it is, after the last move, into the buffer.
+	 * Moves are generated once per position, from its snapshot, and kept with it, so it may be
+	 * called from any thread without locking the game and repeated calls don't generate them again.
+	 * @param moves buffer cleared and filled with packed moves
+	 * @return count of the moves
+	 * @see #snapshot()
+	 * @see Board#legalMoves(Color, MoveList)
+	 * @see me.dzikimlecz.chessapi.game.board.Move
+	 */
+	public int legalMoves(@NotNull MoveList moves) {
+		moves.clear();
+		for (int move : snapshot.legalMoves()) moves.add(move);
+		return moves.size();
+	}
+
+	private MoveResult handleMove(String notation) {
+		return move(validator.validate(parser.parse(notation)));
+	}
+
+	private MoveResult move(MoveData data) {
 		if (data.toFurtherCheck()) data.validate(enPassantCastlingValidator);
 		var pieceMoves = data.getVariations();
-		if (pieceMoves.isEmpty()) {
-			listener.onIllegalMove();
-			return;
-		}
-
-		pieceMoves.forEach((piece, square) -> {
+		if (pieceMoves.isEmpty()) return illegalMove(data);
+
+		// encoded before the pieces are moved, as it reads them from the board
+		int move = data.move();
+		if (move == Move.NONE) return illegalMove(data);
+		// other pieces able to make the move are looked for before the pieces are moved
+		var disambiguation = board.disambiguation(move);
+		final int castlingRights = board.castlingRights();
+		for (var pieceMove : pieceMoves.entrySet()) {
+			var piece = pieceMove.getKey();
+			var square = pieceMove.getValue();
+			final int from = piece.squareIndex();
 			var targetSquarePiece = square.piece();
-			if (targetSquarePiece != null) {
-				take(targetSquarePiece);
-				var newNotation = new StringBuilder(data.notation()).insert(1, 'x');
-				data.setNotation(newNotation.toString());
+			if (targetSquarePiece != null) take(targetSquarePiece);
+			else if (Move.is(move, Move.EN_PASSANT)) {
+				final int rowDelta = (color() == WHITE) ? -1 : 1;
+				take(board.square(Board.offset(square.index(), 0, rowDelta)).piece());
 			}
 			try {
 				((Movable) piece).moveTo(square);
 			} catch (ClassCastException e) {
 				throw new IllegalStateException("Can't move non movable piece");
 			}
-		});
+			board.updateCastlingRights(from, square.index());
+		}
+		if (Move.is(move, Move.CAPTURE))
+			data.setNotation(new StringBuilder(data.notation()).insert(1, 'x').toString());
+		final boolean irreversible = Move.is(move, Move.CAPTURE) || Move.piece(move) == Bitboards.PAWN;
 
 		pawnExchangeAnalyser.analyse(data);
-		var notation = data.notation();
-		if (notation.endsWith(":exchange")) pieceMoves.keySet().stream().findFirst().ifPresent(piece ->
-				pawnExchangeProcessor.exchange(listener.onPawnExchange(), color(), pieceMoves.get(piece))
-		);
+		if (data.notation().endsWith(":exchange")) {
+			var type = listener.onPawnExchange();
+			pawnExchangeProcessor.exchange(type, color(), board.square(Move.to(move)));
+			data.setMove(move = Move.withPromotion(move, Bitboards.typeIndex(type)));
+		}
+		board.setEnPassantSquare(Move.is(move, Move.DOUBLE_PUSH)
+				? (Move.from(move) + Move.to(move)) / 2 : Board.NO_SQUARE);
+		board.setTurn(color().opposite());
 
 		checkAnalyser.analyse(data);
+		move = data.move();
+		// the stored notation keeps markers internal to the game, results get the standard one
+		var notation = Move.toSAN(move, disambiguation);
 		moveDatabase.put(data);
+		moveDatabase.putPosition(board.zobristKey(),
+		                         irreversible || castlingRights != board.castlingRights());
 		gameState.setColor(moveDatabase.turnColor());
-		if (notation.contains("+")) listener.onCheck(gameState.color());
-		else if (notation.contains("#")) {
+		snapshot = PositionSnapshot.of(board, moveDatabase.movesCount());
+		final long positionKey = board.zobristKey();
+		final Color mover = gameState.color().opposite();
+		var outcome = MoveResult.Outcome.NONE;
+		if (Move.is(move, Move.CHECK)) {
+			listener.onCheck(gameState.color());
+			outcome = MoveResult.Outcome.CHECK;
+		} else if (Move.is(move, Move.MATE)) {
 			listener.onMoveHandled();
 			listener.onMate(gameState.color());
+			var result = MoveResult.legal(notation, MoveResult.Outcome.MATE, positionKey);
+			publishMove(result, mover);
 			stopGame();
+			return result;
+		} else {
+			var drawReason = drawAnalyser.lookForDraw();
+			if (drawReason.isPresent()) {
+				listener.onMoveHandled();
+				listener.onDraw(drawReason.get());
+				var result = MoveResult.draw(notation, drawReason.get(), positionKey);
+				publishMove(result, mover);
+				stopGame();
+				return result;
+			}
+		}
+		gameState.setColor(moveDatabase.turnColor());
+		listener.onMoveHandled();
+		var result = MoveResult.legal(notation, outcome, positionKey);
+		publishMove(result, mover);
+		return result;
+	}
+
+	private MoveResult illegalMove(MoveData data) {
+		listener.onIllegalMove();
+		var result = MoveResult.illegal(data.notation(), board.zobristKey());
+		publishMove(result, data.color());
+		return result;
+	}
+
+	/**
+	 * Gets publisher of events of the game. It completes when the game stops. Events are offered to
+	 * subscribers without waiting, so the game never stalls on a slow subscriber. Instead a
+	 * subscriber, which doesn't request events fast enough to keep its buffer from filling up,
+	 * misses the events not fitting in it; such events aren't redelivered, but are counted by
+	 * {@link #missedGameEvents()}.
+	 * @see GameEvent
+	 */
+	public synchronized Flow.Publisher<GameEvent> events() {
+		if (publisher == null) {
+			publisher = new SubmissionPublisher<>();
+			if (!isOngoing()) publisher.close();
+		}
+		return publisher;
+	}
+
+	private boolean isObserved() {
+		var publisher = this.publisher;
+		return (publisher != null && publisher.hasSubscribers())
+				|| (sharedPublisher != null && sharedPublisher.hasSubscribers());
+	}
+
+	/**
+	 * Publishes the move and what it caused to subscribers of the game.
+	 */
+	private void publishMove(MoveResult result, Color mover) {
+		if (!isObserved()) return;
+		if (!result.legal()) {
+			publish(new GameEvent(name, GameEvent.Type.ILLEGAL_MOVE, result, mover, null));
 			return;
-		} else drawAnalyser.lookForDraw().ifPresent(reason -> {
-			listener.onMoveHandled();
-			listener.onDraw(reason);
-			stopGame();
-		});
-		if (isOngoing()) {
-			gameState.setColor(moveDatabase.turnColor());
-			listener.onMoveHandled();
 		}
+		publish(new GameEvent(name, GameEvent.Type.MOVE, result, mover, null));
+		switch (result.outcome()) {
+			case CHECK -> publish(new GameEvent(name, GameEvent.Type.CHECK, result, mover.opposite(), null));
+			case MATE -> publish(new GameEvent(name, GameEvent.Type.MATE, result, mover, null));
+			case DRAW -> publish(new GameEvent(name, GameEvent.Type.DRAW, result, null, result.drawReason()));
+		}
+	}
+
+	private void publish(GameEvent event) {
+		var publisher = this.publisher;
+		if (publisher != null) publisher.offer(event, this::onMissedEvent);
+		if (sharedPublisher != null) sharedPublisher.offer(event, this::onMissedEvent);
+	}
+
+	private boolean onMissedEvent(Flow.Subscriber<? super GameEvent> subscriber, GameEvent event) {
+		missedGameEvents.increment();
+		// the event isn't offered to the subscriber again
+		return false;
 	}
 
 	private void take(@NotNull ChessPiece targetSquarePiece) {
@@ -272,9 +615,25 @@ public final class ChessGame implements Runnable {
 		return !hasStopped.get();
 	}
 
+	/**
+	 * Makes the moves back-to-back. Stops at the first illegal move or when the game ends.
+	 * @return results of the made moves and of the illegal one, if there was one
+	 */
+	private List<MoveResult> handleBatch(String[] notations) {
+		var results = new ArrayList<MoveResult>(notations.length);
+		for (int i = 0; i < notations.length && isOngoing(); i++) {
+			var result = handleMove(notations[i]);
+			results.add(result);
+			if (!result.legal()) break;
+		}
+		return results;
+	}
+
 	private void requestDraw(Color color) {
 		if (listener.onDrawRequest(color)) {
 			listener.onDraw(DrawReason.PLAYERS_DECISION);
+			if (isObserved())
+				publish(new GameEvent(name, GameEvent.Type.DRAW, null, null, DrawReason.PLAYERS_DECISION));
 			stopGame();
 		}
 	}
@@ -285,7 +644,10 @@ public final class ChessGame implements Runnable {
 	
 	public void stopGame() {
 		hasStopped.set(true);
-		if (!thread.isInterrupted())
+		discardEvents();
+		var publisher = this.publisher;
+		if (publisher != null) publisher.close();
+		if (thread != null && !thread.isInterrupted())
 			thread.interrupt();
 	}
 
@@ -0,0 +1,170 @@
+package me.dzikimlecz.chessapi.game;
+
+import me.dzikimlecz.chessapi.game.board.Bitboards;
+import me.dzikimlecz.chessapi.game.board.Board;
+import me.dzikimlecz.chessapi.game.board.Color;
+import me.dzikimlecz.chessapi.game.board.pieces.*;
+import me.dzikimlecz.chessapi.game.board.square.Square;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable copy of a position of a game, taken by the game after each move. Reading it never
+ * touches the board, so it may be read from any thread without observing a position in the
+ * middle of a move.
+ * <br>Pieces are kept as bytes indexed by squares (a1 being 0 and h8 being 63): 0 for an empty
+ * square, otherwise type index of the piece + 1, with {@link #BLACK_PIECE} bit set for black pieces.
+ * @see ChessGame#snapshot()
+ */
+public final class PositionSnapshot {
+	public static final byte EMPTY = 0;
+	public static final byte BLACK_PIECE = 8;
+
+	private final byte[] squares;
+	private final Color turn;
+	private final int ply;
+	private final long zobristKey;
+	private final int castlingRights;
+	private final int enPassantSquare;
+	private final String fen;
+	private volatile int[] legalMoves;
+
+	private PositionSnapshot(byte[] squares, Board board, int ply) {
+		this.squares = squares;
+		this.turn = board.turn();
+		this.ply = ply;
+		this.zobristKey = board.zobristKey();
+		this.castlingRights = board.castlingRights();
+		this.enPassantSquare = board.enPassantSquare();
+		this.fen = board.toFEN();
+	}
+
+	/**
+	 * Takes snapshot of the position on the board. Has to be called by the thread changing it.
+	 * @param ply count of moves made in the game
+	 */
+	static PositionSnapshot of(@NotNull Board board, int ply) {
+		var squares = new byte[64];
+		for (int square = 0; square < 64; square++) {
+			var piece = board.square(square).piece();
+			if (piece == null) continue;
+			squares[square] = (byte) ((Bitboards.typeIndex(piece) + 1)
+					| ((piece.color() == Color.BLACK) ? BLACK_PIECE : 0));
+		}
+		return new PositionSnapshot(squares, board, ply);
+	}
+
+	/**
+	 * Gets byte of the piece standing on the square.
+	 * @param square index of the square
+	 * @return byte of the piece or {@link #EMPTY}
+	 */
+	public byte square(int square) {
+		return squares[square];
+	}
+
+	/**
+	 * Gets type index of the piece standing on the square.
+	 * @return type index or -1 if the square is empty
+	 * @see Bitboards#type(int)
+	 */
+	public int pieceType(int square) {
+		return (squares[square] & 7) - 1;
+	}
+
+	/**
+	 * Gets color of the piece standing on the square.
+	 * @return color or null if the square is empty
+	 */
+	public @Nullable Color color(int square) {
+		final byte piece = squares[square];
+		if (piece == EMPTY) return null;
+		return ((piece & BLACK_PIECE) != 0) ? Color.BLACK : Color.WHITE;
+	}
+
+	/**
+	 * Creates new piece of the type and color of the one standing on the square. The piece stands on
+	 * a square of its own, so it isn't connected to the game nor to other created pieces.
+	 * @return the piece or null if the square is empty
+	 */
+	public @Nullable ChessPiece piece(int square) {
+		final int type = pieceType(square);
+		if (type < 0) return null;
+		var color = color(square);
+		// squares take raw coordinates, with rows counted from the 8th
+		final int line = square & 7;
+		final int row = 7 - (square >>> 3);
+		var location = new Square(line, row, Color.values()[(line + row) % 2]);
+		return switch (type) {
+			case Bitboards.PAWN -> new Pawn(color, location);
+			case Bitboards.KNIGHT -> new Knight(color, location);
+			case Bitboards.BISHOP -> new Bishop(color, location);
+			case Bitboards.ROOK -> new Rook(color, location);
+			case Bitboards.QUEEN -> new Queen(color, location);
+			default -> new King(color, location);
+		};
+	}
+
+	/**
+	 * Gets copy of bytes of all the squares.
+	 */
+	public byte[] squares() {
+		return squares.clone();
+	}
+
+	/**
+	 * Gets color of the player whose turn it is.
+	 */
+	public Color turn() {
+		return turn;
+	}
+
+	/**
+	 * Gets count of moves made in the game before the position, counting moves of both players.
+	 */
+	public int ply() {
+		return ply;
+	}
+
+	public long zobristKey() {
+		return zobristKey;
+	}
+
+	/**
+	 * @see Board#castlingRights()
+	 */
+	public int castlingRights() {
+		return castlingRights;
+	}
+
+	/**
+	 * @see Board#enPassantSquare()
+	 */
+	public int enPassantSquare() {
+		return enPassantSquare;
+	}
+
+	/**
+	 * Gets legal moves of the player whose turn it is. They're generated by the first call, on a
+	 * board set up from the snapshot, and kept for next calls, as the position never changes.
+	 * @return packed moves, not to be modified
+	 */
+	int[] legalMoves() {
+		var moves = legalMoves;
+		// threads calling it at once may generate the same moves twice, which is harmless
+		if (moves == null) legalMoves = moves = Board.createFromFEN(fen).legalMoves(turn).toArray();
+		return moves;
+	}
+
+	/**
+	 * Gets FEN record of the position.
+	 * @see Board#toFEN()
+	 */
+	public String toFEN() {
+		return fen;
+	}
+
+	@Override public String toString() {
+		return "{Position: %d, Turn: %s, Key: %x}".formatted(ply, turn, zobristKey);
+	}
+}
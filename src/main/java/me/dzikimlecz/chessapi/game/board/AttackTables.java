@@ -0,0 +1,242 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import me.dzikimlecz.chessapi.game.board.pieces.*;
+import org.jetbrains.annotations.NotNull;
+
+import static me.dzikimlecz.chessapi.game.board.Bitboards.*;
+
+/**
+ * Precomputed attack tables of all types of pieces. Attacks of knights, kings and pawns are
+ * looked up by square, attacks of sliding pieces (rooks, bishops and queens) are looked up by
+ * square and occupancy of the board using magic bitboards, so each lookup is a multiplication,
+ * a shift and an array access.
+ * @see Bitboards
+ */
+public final class AttackTables {
+	/**
+	 * Squares attacked by a pawn, indexed by color ordinal and square index.
+	 */
+	private static final long[][] PAWN_ATTACKS = new long[2][64];
+
+	/**
+	 * Magic numbers of rooks and bishops, indexed by square index. Found by trial and error with a
+	 * fixed seed; hardcoded to avoid searching for them on each start.
+	 */
+	private static final long[] ROOK_MAGIC_NUMBERS = {
+			0x008000908064C000L, 0x0040200040001000L, 0x0180100080A0010AL,
+			0x8880041000800800L, 0x1200100201200804L, 0x0200020004011008L,
+			0x2180010000800600L, 0x0200005088210204L, 0x0000800080204001L,
+			0x1000804000802001L, 0x8240801000200080L, 0x8611001004200900L,
+			0x008180800C001800L, 0x0100800200800400L, 0x0A02000102000408L,
+			0x8020802300104280L, 0x0080004000402000L, 0xE010104000402000L,
+			0x0800808010002000L, 0xA280210008100100L, 0x0001818014000800L,
+			0xA002010100080400L, 0x0008040088020130L, 0x0001020004048845L,
+			0x0081826280004004L, 0x2020810900284000L, 0x0200100080802000L,
+			0x0200080080100080L, 0x8083080100100500L, 0x4406000901000400L,
+			0x0005020080800100L, 0x0090204200008114L, 0x0010400094800420L,
+			0x0900804000802002L, 0x0201001841002000L, 0x4100080080801000L,
+			0x4540040080800800L, 0x0000800400800200L, 0x9281800100808200L,
+			0x8004048102000854L, 0x4420802040008006L, 0x0880500020004002L,
+			0x0801200241050010L, 0x8400080010008080L, 0x0008000500090010L,
+			0x0082009084020008L, 0x4012000108020004L, 0x9000104D08860004L,
+			0x2004204114800100L, 0x0148802112400300L, 0x0202842000100880L,
+			0x001B080080900080L, 0x001A002008100600L, 0x0004008004020080L,
+			0x5181000600040300L, 0x0000044401128A00L, 0x8044110480002441L,
+			0x1023012082044112L, 0x00804080200A0012L, 0x000420310A004A42L,
+			0x0023001004020801L, 0x0882001008040102L, 0x000230088118020CL,
+			0x0000019025040042L
+	};
+	private static final long[] BISHOP_MAGIC_NUMBERS = {
+			0x1010220204082A00L, 0x80E0020202002804L, 0x2008480104200020L,
+			0x000220920280002DL, 0x32040421000B0284L, 0x1002080404000400L,
+			0x0004160892080040L, 0x2203024206204201L, 0x0002404264010200L,
+			0x1120908408428124L, 0xB100424403002280L, 0x240008060440C288L,
+			0x2040040420490400L, 0x0100620210040022L, 0x0400084104202028L,
+			0x0010050080908820L, 0x0C90A04490824802L, 0x000200A008210130L,
+			0x0C08001000204010L, 0x0008000186014480L, 0x0601044820080021L,
+			0x0002000101013100L, 0x1400A08108080204L, 0x0250401104485410L,
+			0x4820240810142843L, 0x0009142A20182200L, 0x0848140048440020L,
+			0x2020120000400440L, 0x0108840200802003L, 0x0009070082009492L,
+			0x020C0C0038424245L, 0xCA44005808210410L, 0x8011212000500404L,
+			0x2028840510101008L, 0x0004042A00041400L, 0x0624020080980080L,
+			0x1820410040840040L, 0x2201004202050100L, 0x402A088A24040224L,
+			0x0242061040002400L, 0x90020202400821A0L, 0x00C9009004E01002L,
+			0x58C2060202023100L, 0x0000012214040800L, 0x0210846810100200L,
+			0x0004208081010200L, 0x01A4108404442100L, 0x8054082C80280106L,
+			0x0004144904104208L, 0x00324C0A11104000L, 0x1000020231040100L,
+			0x2080001042020004L, 0x0544021020288104L, 0x1103501408083020L,
+			0x4010451004960002L, 0x003010091C44902CL, 0x0102402884202000L,
+			0x0480804C00841086L, 0x04602C8602210400L, 0x0000004000420200L,
+			0x0040000020442C18L, 0x4483804089094100L, 0x80000B0248020400L,
+			0x0045010808008680L
+	};
+
+	private static final Magic[] ROOK_MAGICS = new Magic[64];
+	private static final Magic[] BISHOP_MAGICS = new Magic[64];
+
+	static {
+		for (int index = 0; index < 64; index++) {
+			PAWN_ATTACKS[Color.WHITE.ordinal()][index] =
+					bitByDelta(index, -1, 1) | bitByDelta(index, 1, 1);
+			PAWN_ATTACKS[Color.BLACK.ordinal()][index] =
+					bitByDelta(index, -1, -1) | bitByDelta(index, 1, -1);
+		}
+		for (int index = 0; index < 64; index++) {
+			ROOK_MAGICS[index] = Magic.create(index, ROOK_MAGIC_NUMBERS[index], true);
+			BISHOP_MAGICS[index] = Magic.create(index, BISHOP_MAGIC_NUMBERS[index], false);
+		}
+	}
+
+	private AttackTables() {}
+
+	/**
+	 * Gets squares attacked by pawn of the specified color.
+	 * @param index index of square, on which the pawn is located
+	 * @param color color of the pawn
+	 * @return bitboard of attacked squares
+	 */
+	public static long pawnAttacks(int index, @NotNull Color color) {
+		return PAWN_ATTACKS[color.ordinal()][index];
+	}
+
+	/**
+	 * Gets squares attacked by knight.
+	 * @param index index of square, on which the knight is located
+	 * @return bitboard of attacked squares
+	 */
+	public static long knightAttacks(int index) {
+		return KNIGHT_MOVES[index];
+	}
+
+	/**
+	 * Gets squares attacked by king.
+	 * @param index index of square, on which the king is located
+	 * @return bitboard of attacked squares
+	 */
+	public static long kingAttacks(int index) {
+		return KING_MOVES[index];
+	}
+
+	/**
+	 * Gets squares attacked by rook, including the first occupied square in each direction.
+	 * @param index index of square, on which the rook is located
+	 * @param occupancy bitboard of occupied squares
+	 * @return bitboard of attacked squares
+	 */
+	public static long rookAttacks(int index, long occupancy) {
+		return ROOK_MAGICS[index].attacks(occupancy);
+	}
+
+	/**
+	 * Gets squares attacked by bishop, including the first occupied square in each direction.
+	 * @param index index of square, on which the bishop is located
+	 * @param occupancy bitboard of occupied squares
+	 * @return bitboard of attacked squares
+	 */
+	public static long bishopAttacks(int index, long occupancy) {
+		return BISHOP_MAGICS[index].attacks(occupancy);
+	}
+
+	/**
+	 * Gets squares attacked by queen, including the first occupied square in each direction.
+	 * @param index index of square, on which the queen is located
+	 * @param occupancy bitboard of occupied squares
+	 * @return bitboard of attacked squares
+	 */
+	public static long queenAttacks(int index, long occupancy) {
+		return rookAttacks(index, occupancy) | bishopAttacks(index, occupancy);
+	}
+
+	/**
+	 * Gets all pieces of the specified color attacking the square.
+	 * @param board board, on which pieces are located
+	 * @param index index of the square
+	 * @param attacker color of attacking pieces
+	 * @param occupancy bitboard of squares blocking sliding pieces
+	 * @return bitboard of squares occupied by the attacking pieces
+	 */
+	public static long attackersTo(@NotNull Board board,
+	                               int index,
+	                               @NotNull Color attacker,
+	                               long occupancy) {
+		long queens = board.bitboard(slot(attacker, QUEEN));
+		return (pawnAttacks(index, attacker.opposite()) & board.bitboard(slot(attacker, PAWN)))
+				| (knightAttacks(index) & board.bitboard(slot(attacker, KNIGHT)))
+				| (kingAttacks(index) & board.bitboard(slot(attacker, KING)))
+				| (rookAttacks(index, occupancy) & (board.bitboard(slot(attacker, ROOK)) | queens))
+				| (bishopAttacks(index, occupancy) & (board.bitboard(slot(attacker, BISHOP)) | queens));
+	}
+
+	private static long bitByDelta(int index, int lineDelta, int rowDelta) {
+		int target = Board.offset(index, lineDelta, rowDelta);
+		return (target == Board.NO_SQUARE) ? 0L : bit(target);
+	}
+
+	/**
+	 * Gets squares attacked by sliding piece, by walking the rays until the first occupied square.
+	 * Used only to fill the tables.
+	 */
+	private static long slidingAttacks(int index, long occupancy, boolean rook) {
+		final int[][] directions = rook ?
+				new int[][]{{0, 1}, {0, -1}, {1, 0}, {-1, 0}} :
+				new int[][]{{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+		long attacks = 0L;
+		for (int[] direction : directions) {
+			for (int cursor = Board.offset(index, direction[0], direction[1]); cursor != Board.NO_SQUARE;
+			     cursor = Board.offset(cursor, direction[0], direction[1])) {
+				attacks |= bit(cursor);
+				if ((occupancy & bit(cursor)) != 0L) break;
+			}
+		}
+		return attacks;
+	}
+
+	/**
+	 * Magic bitboard of a single square. Maps each subset of relevant occupancy mask to the index
+	 * in the attacks table by multiplying it by the magic number and shifting the product.
+	 */
+	private static final class Magic {
+		private final long mask;
+		private final long magic;
+		private final int shift;
+		private final long[] attacks;
+
+		private Magic(long mask, long magic, int shift, long[] attacks) {
+			this.mask = mask;
+			this.magic = magic;
+			this.shift = shift;
+			this.attacks = attacks;
+		}
+
+		long attacks(long occupancy) {
+			return attacks[(int) (((occupancy & mask) * magic) >>> shift)];
+		}
+
+		static Magic create(int index, long magic, boolean rook) {
+			// squares on the edges of the board never block a ray
+			long mask = slidingAttacks(index, 0L, rook) & ~edges(index);
+			int bits = Long.bitCount(mask);
+			long[] table = new long[1 << bits];
+			long subset = 0L;
+			//iterates through all subsets of the mask
+			do {
+				int key = (int) ((subset * magic) >>> (64 - bits));
+				long attacks = slidingAttacks(index, subset, rook);
+				if (table[key] != 0L && table[key] != attacks)
+					throw new IllegalStateException("Invalid magic number for square " + index);
+				table[key] = attacks;
+				subset = (subset - mask) & mask;
+			} while (subset != 0L);
+			return new Magic(mask, magic, 64 - bits, table);
+		}
+
+		private static long edges(int index) {
+			final long firstRow = 0xFFL;
+			final long lastRow = 0xFFL << 56;
+			final long firstLine = 0x0101010101010101L;
+			final long lastLine = firstLine << 7;
+			return ((firstRow | lastRow) & ~(firstRow << ((index >>> 3) * 8)))
+					| ((firstLine | lastLine) & ~(firstLine << (index & 7)));
+		}
+	}
+}
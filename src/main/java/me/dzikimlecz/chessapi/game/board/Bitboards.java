@@ -0,0 +1,176 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import me.dzikimlecz.chessapi.game.board.pieces.*;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Helpers for working with bitboards - 64-bit sets of squares, in which square a1 is the lowest
+ * bit, h1 is the 8th bit and h8 is the highest one (index = (row - 1) * 8 + (line - 'a')).
+ */
+public final class Bitboards {
+	/*
+	 * Indexes of piece types, used to address arrays of bitboards.
+	 */
+	public static final int PAWN = 0;
+	public static final int KNIGHT = 1;
+	public static final int BISHOP = 2;
+	public static final int ROOK = 3;
+	public static final int QUEEN = 4;
+	public static final int KING = 5;
+
+	/**
+	 * Piece types ordered by their indexes.
+	 */
+	private static final Class<?>[] TYPES =
+			{Pawn.class, Knight.class, Bishop.class, Rook.class, Queen.class, King.class};
+
+	/**
+	 * Squares reachable by knight jump from the square of the index.
+	 */
+	static final long[] KNIGHT_MOVES = new long[64];
+	/**
+	 * Squares adjacent to the square of the index.
+	 */
+	static final long[] KING_MOVES = new long[64];
+	/**
+	 * Squares lying on the same row or line as the square of the index (exclusive of it).
+	 */
+	static final long[] ROOK_RAYS = new long[64];
+	/**
+	 * Squares lying on the same diagonals as the square of the index (exclusive of it).
+	 */
+	static final long[] BISHOP_RAYS = new long[64];
+	/**
+	 * Squares lying strictly between two squares lying on the same row, line or diagonal.
+	 * Empty for squares not laying on the same row, line nor diagonal.
+	 */
+	static final long[][] BETWEEN = new long[64][64];
+	/**
+	 * Squares of the whole row, line or diagonal passing through two squares (inclusive of them).
+	 * Empty for squares not laying on the same row, line nor diagonal.
+	 */
+	static final long[][] LINE = new long[64][64];
+
+	static {
+		final int[][] knightDeltas =
+				{{-2, 1}, {-1, 2}, {1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}};
+		final int[][] rookDirections = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+		final int[][] bishopDirections = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+		for (int index = 0; index < 64; index++) {
+			for (int[] delta : knightDeltas)
+				KNIGHT_MOVES[index] |= bitByDelta(index, delta[0], delta[1]);
+			for (int lineDelta = -1; lineDelta <= 1; lineDelta++)
+				for (int rowDelta = -1; rowDelta <= 1; rowDelta++)
+					if (lineDelta != 0 || rowDelta != 0)
+						KING_MOVES[index] |= bitByDelta(index, lineDelta, rowDelta);
+			for (int[] direction : rookDirections)
+				ROOK_RAYS[index] |= walkRay(index, direction[0], direction[1]);
+			for (int[] direction : bishopDirections)
+				BISHOP_RAYS[index] |= walkRay(index, direction[0], direction[1]);
+		}
+		for (int from = 0; from < 64; from++) {
+			for (int lineDelta = -1; lineDelta <= 1; lineDelta++) {
+				for (int rowDelta = -1; rowDelta <= 1; rowDelta++) {
+					if (lineDelta == 0 && rowDelta == 0) continue;
+					long passed = 0L;
+					final long line = bit(from) | walkRay(from, lineDelta, rowDelta)
+							| walkRay(from, -lineDelta, -rowDelta);
+					for (int to = Board.offset(from, lineDelta, rowDelta); to != Board.NO_SQUARE;
+					     to = Board.offset(to, lineDelta, rowDelta)) {
+						BETWEEN[from][to] = passed;
+						LINE[from][to] = line;
+						passed |= bit(to);
+					}
+				}
+			}
+		}
+	}
+
+	private Bitboards() {}
+
+	/**
+	 * Gets line (a-h) of square of specified index.
+	 */
+	public static char line(int index) {
+		return (char) ('a' + (index & 7));
+	}
+
+	/**
+	 * Gets row (1-8) of square of specified index.
+	 */
+	public static int row(int index) {
+		return (index >>> 3) + 1;
+	}
+
+	/**
+	 * Gets bitboard containing only square of specified index.
+	 */
+	public static long bit(int index) {
+		return 1L << index;
+	}
+
+	/**
+	 * Gets bitboard of squares lying strictly between two squares.
+	 * @return bitboard of the squares, empty for squares not laying on the same row, line nor diagonal
+	 */
+	public static long between(int from, int to) {
+		return BETWEEN[from][to];
+	}
+
+	/**
+	 * Gets index of piece type.
+	 * @param type type of the piece
+	 * @return index of type (one of {@link #PAWN}, {@link #KNIGHT}, {@link #BISHOP},
+	 * {@link #ROOK}, {@link #QUEEN}, {@link #KING}) or -1 if it's not a concrete chess piece type.
+	 */
+	public static int typeIndex(Class<?> type) {
+		for (int i = 0; i < TYPES.length; i++)
+			if (TYPES[i] == type) return i;
+		return -1;
+	}
+
+	/**
+	 * Gets index of type of the piece.
+	 * @see #typeIndex(Class)
+	 */
+	public static int typeIndex(@NotNull ChessPiece piece) {
+		if (piece instanceof Pawn) return PAWN;
+		if (piece instanceof Knight) return KNIGHT;
+		if (piece instanceof Bishop) return BISHOP;
+		if (piece instanceof Rook) return ROOK;
+		if (piece instanceof Queen) return QUEEN;
+		if (piece instanceof King) return KING;
+		return -1;
+	}
+
+	/**
+	 * Gets index of pieces of the specified color and type in arrays indexed by both of them.
+	 * @return color ordinal * 6 + type index
+	 */
+	static int slot(Color color, int typeIndex) {
+		return color.ordinal() * 6 + typeIndex;
+	}
+
+	/**
+	 * Gets piece type of the index.
+	 * @param typeIndex index of the type
+	 * @return class of pieces of the type
+	 */
+	@SuppressWarnings("unchecked")
+	public static Class<? extends Piece> type(int typeIndex) {
+		return (Class<? extends Piece>) TYPES[typeIndex];
+	}
+
+	private static long bitByDelta(int index, int lineDelta, int rowDelta) {
+		int target = Board.offset(index, lineDelta, rowDelta);
+		return (target == Board.NO_SQUARE) ? 0L : bit(target);
+	}
+
+	private static long walkRay(int index, int lineDelta, int rowDelta) {
+		long ray = 0L;
+		for (int cursor = Board.offset(index, lineDelta, rowDelta); cursor != Board.NO_SQUARE;
+		     cursor = Board.offset(cursor, lineDelta, rowDelta))
+			ray |= bit(cursor);
+		return ray;
+	}
+}
@@ -9,7 +9,6 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 
 /**
@@ -23,10 +22,91 @@ public abstract class Board {
 	 * Array of squares being raw form of the board
 	 */
 	private final Square[][] theBoard;
-	private final AtomicReferenceArray<Square[]> board;
+	/**
+	 * Squares of the board indexed by square index
+	 * @see Square#index()
+	 */
+	private final Square[] squares;
+
+	/**
+	 * Index returned instead of index of a square lying outside of the board.
+	 */
+	public static final int NO_SQUARE = -1;
+
+	/*
+	 * Bits of castling rights.
+	 */
+	public static final int WHITE_SHORT_CASTLING = 1;
+	public static final int WHITE_LONG_CASTLING = 2;
+	public static final int BLACK_SHORT_CASTLING = 4;
+	public static final int BLACK_LONG_CASTLING = 8;
+	public static final int ALL_CASTLING_RIGHTS = 15;
+
+	/**
+	 * Castling rights kept after a move from or to the square of the index.
+	 */
+	private static final int[] CASTLING_MASKS = new int[64];
+
+	static {
+		Arrays.fill(CASTLING_MASKS, ALL_CASTLING_RIGHTS);
+		CASTLING_MASKS[index('e', 1)] &= ~(WHITE_SHORT_CASTLING | WHITE_LONG_CASTLING);
+		CASTLING_MASKS[index('h', 1)] &= ~WHITE_SHORT_CASTLING;
+		CASTLING_MASKS[index('a', 1)] &= ~WHITE_LONG_CASTLING;
+		CASTLING_MASKS[index('e', 8)] &= ~(BLACK_SHORT_CASTLING | BLACK_LONG_CASTLING);
+		CASTLING_MASKS[index('h', 8)] &= ~BLACK_SHORT_CASTLING;
+		CASTLING_MASKS[index('a', 8)] &= ~BLACK_LONG_CASTLING;
+	}
 
 	private final BoardState boardState;
 
+	/**
+	 * Zobrist hash of the position, updated incrementally on each change.
+	 * @see Zobrist
+	 */
+	private long zobristKey;
+	private Color turn = Color.WHITE;
+	private int castlingRights;
+	private int enPassantSquare = NO_SQUARE;
+	/**
+	 * Line of en passant target square, which key is included in the hash, -1 if none is.
+	 */
+	private int hashedEnPassantLine = -1;
+
+	/**
+	 * Indexes of squares occupied by pieces, indexed by color ordinal * 6 + type index. Only
+	 * first {@link #pieceCounts} elements of each array are valid.
+	 */
+	private final int[][] pieceSquares = new int[12][10];
+	private final int[] pieceCounts = new int[12];
+	/**
+	 * Positions of the squares in arrays of {@link #pieceSquares}, indexed by square index.
+	 */
+	private final int[] pieceListPositions = new int[64];
+	/**
+	 * Bitboards of pieces, indexed by color ordinal * 6 + type index, and occupancy masks of both
+	 * colors, indexed by color ordinal. Updated together with the piece lists.
+	 */
+	private final long[] pieceBitboards = new long[12];
+	private final long[] colorOccupancy = new long[2];
+
+	/**
+	 * Pieces removed from the board by moves made with {@link #makeMove(int)}, two per move:
+	 * captured piece and promoted pawn (or nulls).
+	 */
+	private ChessPiece[] undoPieces = new ChessPiece[64];
+	private int undoDepth;
+	/**
+	 * Pieces, which were created for promotions and then removed by unmaking them, indexed by
+	 * color ordinal * 6 + type index. Reused by next promotions.
+	 */
+	private final Piece[][] promotionPool = new Piece[12][];
+	private final int[] promotionPoolSizes = new int[12];
+	private MoveGenerator moveGenerator;
+	/**
+	 * Lazily created check and pin masks of each color, indexed by color ordinal.
+	 */
+	private final CheckInfo[] checkInfos = new CheckInfo[2];
+
 	public static Board create() {
 		return new DefaultBoard();
 	}
@@ -39,43 +119,253 @@ public abstract class Board {
 
 	Board() {
 		this.theBoard = new Square[8][8];
-		board = new AtomicReferenceArray<>(theBoard);
+		this.squares = new Square[64];
 		//initializes all squares of the board
-		for (byte row = 0; row < 8; row++)
-			for (byte line = 0; line < 8; line++)
-				theBoard[row][line] = new Square(line, row, Color.values()[(line + row) % 2]);
+		for (byte row = 0; row < 8; row++) {
+			for (byte line = 0; line < 8; line++) {
+				var square =
+						new Square(line, row, Color.values()[(line + row) % 2], this::squareChanged);
+				theBoard[row][line] = square;
+				squares[square.index()] = square;
+			}
+		}
 		this.boardState = new BoardState(this);
 	}
 
+	private void squareChanged(@NotNull Square square,
+	                           @Nullable ChessPiece previous,
+	                           @Nullable ChessPiece current) {
+		final int index = square.index();
+		final int previousType = (previous == null) ? -1 : Bitboards.typeIndex(previous);
+		final long bit = Bitboards.bit(index);
+		if (previousType >= 0) {
+			final int slot = Bitboards.slot(previous.color(), previousType);
+			zobristKey ^= Zobrist.piece(previous.color(), previousType, index);
+			removeFromPieceList(slot, index);
+			pieceBitboards[slot] &= ~bit;
+			colorOccupancy[previous.color().ordinal()] &= ~bit;
+		}
+		final int currentType = (current == null) ? -1 : Bitboards.typeIndex(current);
+		if (currentType >= 0) {
+			final int slot = Bitboards.slot(current.color(), currentType);
+			zobristKey ^= Zobrist.piece(current.color(), currentType, index);
+			addToPieceList(slot, index);
+			pieceBitboards[slot] |= bit;
+			colorOccupancy[current.color().ordinal()] |= bit;
+		}
+	}
+
+	private void addToPieceList(int slot, int index) {
+		int count = pieceCounts[slot];
+		if (count == pieceSquares[slot].length)
+			pieceSquares[slot] = Arrays.copyOf(pieceSquares[slot], count * 2);
+		pieceSquares[slot][count] = index;
+		pieceListPositions[index] = count;
+		pieceCounts[slot] = count + 1;
+	}
+
+	private void removeFromPieceList(int slot, int index) {
+		//moves the last square of the list in place of the removed one
+		final int last = pieceSquares[slot][--pieceCounts[slot]];
+		final int position = pieceListPositions[index];
+		pieceSquares[slot][position] = last;
+		pieceListPositions[last] = position;
+	}
+
+	/**
+	 * Puts pieces onto the board as specified by piece placement field of FEN and sets the side to
+	 * move, castling rights and en passant target square from the following fields, if present.
+	 * Without castling field all castlings possible for the placement are allowed.
+	 * @param fen FEN record (move clocks are not taken into account)
+	 */
+	void parseFEN(String fen) {
+		var fields = fen.trim().split("\\s+");
+		var ranks = fields[0].split("/");
+		if (ranks.length != 8) throw new IllegalArgumentException("Corrupted FEN");
+		for (int i = 0; i < ranks.length; i++) {
+			//ranks are described from the 8th to the 1st
+			int row = 8 - i;
+			char line = 'a';
+			for (char aChar : ranks[i].toCharArray()) {
+				if (line > 'h') throw new IllegalArgumentException("Corrupted FEN");
+				if (aChar >= '1' && aChar <= '8') line += aChar - '0';
+				else putPiece(aChar, square(line++, row));
+			}
+			if (line != 'h' + 1) throw new IllegalArgumentException("Corrupted FEN");
+		}
+		deriveCastlingRights();
+		if (fields.length > 1) setTurn(switch (fields[1]) {
+			case "w" -> Color.WHITE;
+			case "b" -> Color.BLACK;
+			default -> throw new IllegalArgumentException("Corrupted FEN");
+		});
+		//rights not possible for the placement are ignored
+		if (fields.length > 2) setCastlingRights(castlingRights & parseCastlingRights(fields[2]));
+		if (fields.length > 3) setEnPassantSquare(parseEnPassantSquare(fields[3]));
+	}
+
+	private static int parseCastlingRights(String field) {
+		if (field.equals("-")) return 0;
+		int rights = 0;
+		for (char aChar : field.toCharArray())
+			rights |= switch (aChar) {
+				case 'K' -> WHITE_SHORT_CASTLING;
+				case 'Q' -> WHITE_LONG_CASTLING;
+				case 'k' -> BLACK_SHORT_CASTLING;
+				case 'q' -> BLACK_LONG_CASTLING;
+				default -> throw new IllegalArgumentException("Corrupted FEN");
+			};
+		return rights;
+	}
+
+	private static int parseEnPassantSquare(String field) {
+		if (field.equals("-")) return NO_SQUARE;
+		if (field.length() != 2) throw new IllegalArgumentException("Corrupted FEN");
+		final char line = field.charAt(0);
+		final int row = field.charAt(1) - '0';
+		if (line < 'a' || line > 'h' || (row != 3 && row != 6))
+			throw new IllegalArgumentException("Corrupted FEN");
+		return index(line, row);
+	}
+
+	/**
+	 * Gets FEN record of the position. Move clocks aren't tracked by the board, so they are always
+	 * {@code 0 1}.
+	 * @return FEN record
+	 */
+	public String toFEN() {
+		var builder = new StringBuilder(90);
+		for (int row = 8; row >= 1; row--) {
+			int empty = 0;
+			for (char line = 'a'; line <= 'h'; line++) {
+				var piece = squares[index(line, row)].piece();
+				if (piece == null) {
+					empty++;
+					continue;
+				}
+				if (empty > 0) builder.append(empty);
+				empty = 0;
+				final char symbol = "PNBRQK".charAt(Bitboards.typeIndex(piece));
+				builder.append((piece.color() == Color.WHITE) ? symbol : Character.toLowerCase(symbol));
+			}
+			if (empty > 0) builder.append(empty);
+			if (row > 1) builder.append('/');
+		}
+		builder.append(' ').append((turn == Color.WHITE) ? 'w' : 'b').append(' ');
+		if (castlingRights == 0) builder.append('-');
+		if ((castlingRights & WHITE_SHORT_CASTLING) != 0) builder.append('K');
+		if ((castlingRights & WHITE_LONG_CASTLING) != 0) builder.append('Q');
+		if ((castlingRights & BLACK_SHORT_CASTLING) != 0) builder.append('k');
+		if ((castlingRights & BLACK_LONG_CASTLING) != 0) builder.append('q');
+		builder.append(' ');
+		if (enPassantSquare == NO_SQUARE) builder.append('-');
+		else builder.append(Bitboards.line(enPassantSquare)).append(Bitboards.row(enPassantSquare));
+		return builder.append(" 0 1").toString();
+	}
+
+	/**
+	 * Creates independent board with the same position.
+	 * @return copy of the board
+	 */
+	Board copy() {
+		return new CustomisableBoard(toFEN());
+	}
+
+	/**
+	 * Sets castling rights of each king and rook standing on their initial squares.
+	 */
+	void deriveCastlingRights() {
+		int rights = 0;
+		if (isOnSquare('e', 1, King.class, Color.WHITE)) {
+			if (isOnSquare('h', 1, Rook.class, Color.WHITE)) rights |= WHITE_SHORT_CASTLING;
+			if (isOnSquare('a', 1, Rook.class, Color.WHITE)) rights |= WHITE_LONG_CASTLING;
+		}
+		if (isOnSquare('e', 8, King.class, Color.BLACK)) {
+			if (isOnSquare('h', 8, Rook.class, Color.BLACK)) rights |= BLACK_SHORT_CASTLING;
+			if (isOnSquare('a', 8, Rook.class, Color.BLACK)) rights |= BLACK_LONG_CASTLING;
+		}
+		setCastlingRights(rights);
+	}
+
+	private boolean isOnSquare(char line, int row, Class<? extends Piece> type, Color color) {
+		var piece = square(line, row).piece();
+		return piece != null && piece.getClass() == type && piece.color() == color;
+	}
+
+	private void putPiece(char aChar, @NotNull Square square) {
+		var type = switch (aChar) {
+			case 'P', 'p' -> Pawn.class;
+			case 'N', 'n' -> Knight.class;
+			case 'B', 'b' -> Bishop.class;
+			case 'R', 'r' -> Rook.class;
+			case 'Q', 'q' -> Queen.class;
+			case 'K', 'k' -> King.class;
+			default -> throw new IllegalArgumentException("Unexpected character: " + aChar);
+		};
+		var color = Character.isUpperCase(aChar) ? Color.WHITE : Color.BLACK;
+		createPiece(type, color, square);
+	}
+
+	private static Piece createPiece(Class<? extends Piece> type, Color color, Square square) {
+		try {
+			return type.getConstructor(Color.class, Square.class).newInstance(color, square);
+		} catch(Exception e) {
+			throw new AssertionError();
+		}
+	}
+
 	public void applyOnSquares(Consumer<Square> fun) {
 		for (Square[] squares : theBoard) for (Square square : squares) fun.accept(square);
 	}
 
 	/**
-	 * parses from chess notation to coordinates in the array of squares e.g. (a, 1 -> 0, 0)
-	 * @param row row of the board (1-8)
+	 * gets square on specified chess notation
 	 * @param line line of the board (a-h)
-	 * @return array mapping both row and line to ints in closed range from 0 to 7
+	 * @param row row of the board (1-8)
+	 * @return square on the specified location
 	 */
-	private int[] parseCoords(int row, char line) {
-		var parsedLine = line - 'a';
-		var parsedRow = 8 - row;
-		if (parsedLine < 0 || parsedRow < 0 || parsedLine >= 8 || parsedRow >= 8)
+	public Square square(char line, int row) {
+		if (line < 'a' || line > 'h' || row < 1 || row > 8)
 			throw new IllegalArgumentException(
 					MessageFormat.format("Illegal coordinates: {0}:{1}", line, row)
 			);
-		return new int[]{parsedRow, parsedLine};
+		return squares[index(line, row)];
 	}
 
 	/**
-	 * gets square on specified chess notation
+	 * gets square of specified index
+	 * @param index index of the square (0-63), a1 being 0, h1 being 7 and h8 being 63
+	 * @return square of the specified index
+	 * @see Square#index()
+	 */
+	public Square square(int index) {
+		return squares[index];
+	}
+
+	/**
+	 * Gets index of square of specified chess notation. Doesn't check bounds of the board.
 	 * @param line line of the board (a-h)
 	 * @param row row of the board (1-8)
-	 * @return square on the specified location
+	 * @return index of the square
 	 */
-	public Square square(char line, int row) {
-		int[] coords = parseCoords(row, line);
-		return board.get(coords[0])[coords[1]];
+	public static int index(char line, int row) {
+		return (row - 1) * 8 + (line - 'a');
+	}
+
+	/**
+	 * Gets index of square lying on the specified change of coordinates from start.
+	 * Unlike {@link #getSquareByDelta(Square, int[])} doesn't throw if the square lies outside
+	 * of the board.
+	 * @param index index of the starting square
+	 * @param lineDelta change of the line
+	 * @param rowDelta change of the row
+	 * @return index of the square or {@link #NO_SQUARE} if it lies outside of the board
+	 */
+	public static int offset(int index, int lineDelta, int rowDelta) {
+		int line = (index & 7) + lineDelta;
+		int row = (index >>> 3) + rowDelta;
+		if (line < 0 || line >= 8 || row < 0 || row >= 8) return NO_SQUARE;
+		return row * 8 + line;
 	}
 
 	/**
@@ -160,52 +450,192 @@ public abstract class Board {
 	                                               @Nullable Class<? extends Piece> type,
 	                                               @NotNull Color color) {
 		if (square == null) return List.of();
+		final int target = square.index();
 		List<ChessPiece> pieces = new ArrayList<>();
 		if (type == Piece.class) {
-			List.of(
-					Pawn.class,
-					Knight.class,
-					Bishop.class,
-					Rook.class,
-					Queen.class,
-					King.class
-			).forEach(clazz -> pieces.addAll(getPiecesMovingTo(square, clazz, color)));
+			for (int typeIndex = Bitboards.PAWN; typeIndex <= Bitboards.KING; typeIndex++)
+				addPieces(pieces, bitboard(Bitboards.slot(color, typeIndex)) & reach(target, typeIndex, color));
 		} else if (type == null) {
-			List.of(
-					Knight.class,
-					Bishop.class,
-					Rook.class,
-					Queen.class
-			).forEach(clazz -> pieces.addAll(getPiecesMovingTo(square, clazz, color)));
+			for (int typeIndex = Bitboards.KNIGHT; typeIndex <= Bitboards.QUEEN; typeIndex++)
+				addPieces(pieces, bitboard(Bitboards.slot(color, typeIndex)) & reach(target, typeIndex, color));
 		} else {
-			for (int rowCursor = 1; rowCursor <= 8; rowCursor++) {
-				for (char lineCursor = 'a'; lineCursor <= 'h'; lineCursor++) {
-					var squareCursor = square(lineCursor, rowCursor);
-					var piece = squareCursor.piece();
-					if (!(piece instanceof Movable)) continue;
-					if (piece.color() == color && piece.getClass() == type) {
-						for (int[] deltas : ((Movable) piece).moveDeltas()) {
-							try {
-								if (getSquareByDelta(squareCursor, deltas) == square) {
-									pieces.add(piece);
-									break;
-								}
-							} catch(Exception ignored) {}
-						}
-					}
-				}
-			}
+			final int typeIndex = Bitboards.typeIndex(type);
+			if (typeIndex < 0) return List.of();
+			addPieces(pieces, bitboard(Bitboards.slot(color, typeIndex)) & reach(target, typeIndex, color));
 		}
-
 		return List.copyOf(pieces);
 	}
 
+	/**
+	 * Adds pieces standing on the squares of the bitboard, in order of the squares.
+	 */
+	private void addPieces(List<ChessPiece> pieces, long bitboard) {
+		for (; bitboard != 0L; bitboard &= bitboard - 1)
+			pieces.add(squares[Long.numberOfTrailingZeros(bitboard)].piece());
+	}
+
+	/**
+	 * Gets set of squares, from which piece of the specified type and color has the target
+	 * square among its move deltas (regardless of pieces lying on the way).
+	 * @param target index of the target square
+	 * @param typeIndex type of the moving piece
+	 * @param color color of the moving piece
+	 * @return bitboard of squares
+	 * @see Movable#moveDeltas()
+	 */
+	static long reach(int target, int typeIndex, Color color) {
+		return switch (typeIndex) {
+			case Bitboards.PAWN -> pawnReach(target, color);
+			case Bitboards.KNIGHT -> Bitboards.KNIGHT_MOVES[target];
+			case Bitboards.BISHOP -> Bitboards.BISHOP_RAYS[target];
+			case Bitboards.ROOK -> Bitboards.ROOK_RAYS[target];
+			case Bitboards.QUEEN -> Bitboards.ROOK_RAYS[target] | Bitboards.BISHOP_RAYS[target];
+			// king's deltas contain also his own square
+			case Bitboards.KING -> Bitboards.KING_MOVES[target] | Bitboards.bit(target);
+			default -> 0L;
+		};
+	}
+
+	private static long pawnReach(int target, Color color) {
+		final int rowDelta = (color == Color.WHITE) ? 1 : -1;
+		long reach = 0L;
+		int square = offset(target, 0, -rowDelta);
+		if (square == NO_SQUARE) return reach;
+		reach |= Bitboards.bit(square);
+		int takingSquare = offset(square, 1, 0);
+		if (takingSquare != NO_SQUARE) reach |= Bitboards.bit(takingSquare);
+		takingSquare = offset(square, -1, 0);
+		if (takingSquare != NO_SQUARE) reach |= Bitboards.bit(takingSquare);
+		int startSquare = offset(square, 0, -rowDelta);
+		if (startSquare != NO_SQUARE && Bitboards.row(startSquare) == color.getPawnStartingRow())
+			reach |= Bitboards.bit(startSquare);
+		return reach;
+	}
+
+	/**
+	 * Gets all pieces of the specified color attacking the square.
+	 * @param index index of the attacked square
+	 * @param attacker color of attacking pieces
+	 * @return bitboard of squares occupied by the attacking pieces
+	 * @see #attackersTo(int, Color, long)
+	 */
+	public long attackersTo(int index, @NotNull Color attacker) {
+		return attackersTo(index, attacker, occupancy());
+	}
+
+	/**
+	 * Gets all pieces of the specified color attacking the square, looked up in attack tables.
+	 * @param index index of the attacked square
+	 * @param attacker color of attacking pieces
+	 * @param occupancy bitboard of squares blocking sliding pieces
+	 * @return bitboard of squares occupied by the attacking pieces
+	 * @see AttackTables#attackersTo(Board, int, Color, long)
+	 */
+	public long attackersTo(int index, @NotNull Color attacker, long occupancy) {
+		return AttackTables.attackersTo(this, index, attacker, occupancy);
+	}
+
+	/**
+	 * Gets bitboard of all pieces of the specified type and color.
+	 * @param color color of the pieces
+	 * @param type type of the pieces
+	 * @return set of squares occupied by the pieces
+	 * @see Bitboards
+	 */
+	public long bitboard(@NotNull Color color, @NotNull Class<? extends Piece> type) {
+		final int typeIndex = Bitboards.typeIndex(type);
+		return (typeIndex < 0) ? 0L : bitboard(Bitboards.slot(color, typeIndex));
+	}
+
+	/**
+	 * Gets bitboard of pieces of the slot.
+	 * @param slot color ordinal * 6 + type index
+	 */
+	long bitboard(int slot) {
+		return pieceBitboards[slot];
+	}
+
+	/**
+	 * Gets bitboard of all squares occupied by pieces of the specified color.
+	 * @param color color of the pieces
+	 * @return set of squares occupied by the pieces
+	 * @see Bitboards
+	 */
+	public long occupancy(@NotNull Color color) {
+		return colorOccupancy[color.ordinal()];
+	}
+
+	/**
+	 * Gets bitboard of all occupied squares.
+	 * @return set of squares occupied by any piece
+	 * @see Bitboards
+	 */
+	public long occupancy() {
+		return colorOccupancy[0] | colorOccupancy[1];
+	}
+
 	/**
 	 * Gets King of the specified color
 	 * @param color color of the ordered King
 	 * @return King of player with specified color
 	 */
-	public abstract King getKing(@NotNull Color color);
+	public King getKing(@NotNull Color color) {
+		final int index = kingSquare(color);
+		if (index == NO_SQUARE) throw new IllegalStateException(
+				"%s king not found on the board".formatted(color).toLowerCase());
+		return (King) squares[index].piece();
+	}
+
+	/**
+	 * Gets index of square, on which King of the specified color is located.
+	 * @param color color of the King
+	 * @return index of the square or {@link #NO_SQUARE} if there's no such King on the board
+	 */
+	public int kingSquare(@NotNull Color color) {
+		final int slot = Bitboards.slot(color, Bitboards.KING);
+		return (pieceCounts[slot] == 0) ? NO_SQUARE : pieceSquares[slot][0];
+	}
+
+	/**
+	 * Gets count of pieces of the specified color and type on the board.
+	 * @param color color of the pieces
+	 * @param typeIndex index of type of the pieces
+	 * @return count of the pieces
+	 * @see Bitboards#typeIndex(Class)
+	 */
+	public int pieceCount(@NotNull Color color, int typeIndex) {
+		return pieceCounts[Bitboards.slot(color, typeIndex)];
+	}
+
+	/**
+	 * Gets index of square occupied by one of pieces of the specified color and type, allowing to
+	 * iterate through them without scanning the board. Order of the pieces changes after moves.
+	 * @param color color of the pieces
+	 * @param typeIndex index of type of the pieces
+	 * @param i number of the piece, lower than {@link #pieceCount(Color, int)}
+	 * @return index of the square
+	 * @see Bitboards#typeIndex(Class)
+	 */
+	public int pieceSquare(@NotNull Color color, int typeIndex, int i) {
+		final int slot = Bitboards.slot(color, typeIndex);
+		if (i < 0 || i >= pieceCounts[slot]) throw new IndexOutOfBoundsException(i);
+		return pieceSquares[slot][i];
+	}
+
+	/**
+	 * Gets all pieces of the specified color on the board.
+	 * @param color color of the pieces
+	 * @return list of the pieces, ordered by their types (from pawns to the king)
+	 */
+	public List<ChessPiece> pieces(@NotNull Color color) {
+		List<ChessPiece> pieces = new ArrayList<>(16);
+		for (int typeIndex = Bitboards.PAWN; typeIndex <= Bitboards.KING; typeIndex++) {
+			final int slot = Bitboards.slot(color, typeIndex);
+			for (int i = 0; i < pieceCounts[slot]; i++)
+				pieces.add(squares[pieceSquares[slot][i]].piece());
+		}
+		return pieces;
+	}
 
 
 	/**
@@ -228,6 +658,301 @@ public abstract class Board {
 		return stringBuilder.toString();
 	}
 
+	/**
+	 * Gets Zobrist hash of the position: placement of the pieces, side to move, castling rights
+	 * and en passant target square (only if the capture en passant is possible). Equal positions
+	 * have equal hashes, regardless of the moves which led to them.
+	 * @return hash of the position
+	 */
+	public long zobristKey() {
+		return zobristKey;
+	}
+
+	/**
+	 * Gets color of the side to move.
+	 */
+	public Color turn() {
+		return turn;
+	}
+
+	/**
+	 * Sets color of the side to move.
+	 */
+	public void setTurn(@NotNull Color turn) {
+		if (this.turn == turn) return;
+		zobristKey ^= Zobrist.BLACK_TO_MOVE;
+		this.turn = turn;
+		rehashEnPassant();
+	}
+
+	/**
+	 * Gets castling rights of both sides.
+	 * @return bit field of {@link #WHITE_SHORT_CASTLING}, {@link #WHITE_LONG_CASTLING},
+	 * {@link #BLACK_SHORT_CASTLING} and {@link #BLACK_LONG_CASTLING}
+	 */
+	public int castlingRights() {
+		return castlingRights;
+	}
+
+	/**
+	 * Sets castling rights of both sides.
+	 * @param castlingRights bit field of castling rights
+	 * @see #castlingRights()
+	 */
+	public void setCastlingRights(int castlingRights) {
+		castlingRights &= ALL_CASTLING_RIGHTS;
+		zobristKey ^= Zobrist.CASTLING[this.castlingRights] ^ Zobrist.CASTLING[castlingRights];
+		this.castlingRights = castlingRights;
+	}
+
+	/**
+	 * Revokes castling rights lost by moving a piece from or to the specified squares (moving the
+	 * king, moving a rook or capturing it).
+	 * @param from index of square the piece has left
+	 * @param to index of square the piece has reached
+	 */
+	public void updateCastlingRights(int from, int to) {
+		setCastlingRights(castlingRights & CASTLING_MASKS[from] & CASTLING_MASKS[to]);
+	}
+
+	/**
+	 * Gets en passant target square - the square passed over by a pawn in the last move.
+	 * @return index of the square or {@link #NO_SQUARE} if the last move wasn't a double step
+	 * of a pawn
+	 */
+	public int enPassantSquare() {
+		return enPassantSquare;
+	}
+
+	/**
+	 * Sets en passant target square.
+	 * @param enPassantSquare index of the square or {@link #NO_SQUARE}
+	 * @see #enPassantSquare()
+	 */
+	public void setEnPassantSquare(int enPassantSquare) {
+		this.enPassantSquare = enPassantSquare;
+		rehashEnPassant();
+	}
+
+	/**
+	 * Includes key of the en passant target square in the hash only if the side to move can take
+	 * en passant, as positions differing only by an impossible capture are the same.
+	 */
+	private void rehashEnPassant() {
+		if (hashedEnPassantLine >= 0) zobristKey ^= Zobrist.EN_PASSANT[hashedEnPassantLine];
+		hashedEnPassantLine = -1;
+		if (enPassantSquare == NO_SQUARE) return;
+		final int pawnsSquare = offset(enPassantSquare, 0, (turn == Color.WHITE) ? -1 : 1);
+		if (pawnsSquare == NO_SQUARE) return;
+		if (isPawnOf(turn, offset(pawnsSquare, -1, 0)) || isPawnOf(turn, offset(pawnsSquare, 1, 0))) {
+			hashedEnPassantLine = enPassantSquare & 7;
+			zobristKey ^= Zobrist.EN_PASSANT[hashedEnPassantLine];
+		}
+	}
+
+	private boolean isPawnOf(Color color, int index) {
+		if (index == NO_SQUARE) return false;
+		var piece = squares[index].piece();
+		return piece instanceof Pawn && piece.color() == color;
+	}
+
+	/**
+	 * Makes the move on the board: moves the piece (and the rook in case of castling), removes
+	 * captured piece (also when taken en passant), exchanges promoted pawn and updates castling
+	 * rights, en passant target square and the side to move. Legality of the move isn't checked.
+	 * <br>Moves must be unmade in reversed order of making them.
+	 * @param move packed move
+	 * @return information needed to unmake the move
+	 * @see Move
+	 * @see #unmakeMove(long)
+	 */
+	public long makeMove(int move) {
+		final int from = Move.from(move);
+		final int to = Move.to(move);
+		if (!(squares[from].piece() instanceof Piece piece))
+			throw new IllegalArgumentException("No piece to move on square " + squares[from]);
+		final Color color = piece.color();
+		long undo = (move & 0xFFFFFFFFL)
+				| ((long) castlingRights << 32)
+				| ((long) (enPassantSquare + 1) << 36)
+				| ((long) turn.ordinal() << 43);
+
+		ChessPiece captured = squares[to].piece();
+		if (captured == null && piece instanceof Pawn && to == enPassantSquare) {
+			captured = squares[offset(to, 0, (color == Color.WHITE) ? -1 : 1)].piece();
+			undo |= 1L << 44;
+		}
+		if (captured != null) {
+			if (!(captured instanceof Takeable))
+				throw new IllegalArgumentException("Cannot take non-takeable piece.");
+			((Takeable) captured).beTaken();
+		}
+		if (undoDepth + 2 > undoPieces.length) undoPieces = Arrays.copyOf(undoPieces, undoDepth * 2);
+		undoPieces[undoDepth++] = captured;
+
+		final int promotion = Move.promotion(move);
+		if (promotion >= 0 && piece instanceof Pawn pawn) {
+			pawn.beTaken();
+			undoPieces[undoDepth++] = pawn;
+			promote(color, promotion, squares[to]);
+		} else {
+			undoPieces[undoDepth++] = null;
+			piece.moveTo(squares[to]);
+			if (piece instanceof King && Math.abs(to - from) == 2)
+				((Piece) squares[castlingRookSquare(to)].piece()).moveTo(squares[(from + to) / 2]);
+		}
+
+		updateCastlingRights(from, to);
+		setEnPassantSquare(
+				(piece instanceof Pawn && Math.abs(to - from) == 16) ? (from + to) / 2 : NO_SQUARE);
+		setTurn(color.opposite());
+		return undo;
+	}
+
+	/**
+	 * Unmakes the last move made with {@link #makeMove(int)}, restoring the exact position from
+	 * before it, including its hash.
+	 * @param undo information returned by {@link #makeMove(int)}
+	 */
+	public void unmakeMove(long undo) {
+		if (undoDepth == 0) throw new IllegalStateException("No move to unmake");
+		final int move = (int) undo;
+		final int from = Move.from(move);
+		final int to = Move.to(move);
+		var pawn = undoPieces[--undoDepth];
+		var captured = undoPieces[--undoDepth];
+		undoPieces[undoDepth] = undoPieces[undoDepth + 1] = null;
+
+		var piece = (Piece) squares[to].piece();
+		if (pawn != null) {
+			((Takeable) piece).beTaken();
+			returnToPool(piece);
+			((Movable) pawn).moveTo(squares[from]);
+		} else {
+			piece.revertMoveTo(squares[from]);
+			if (piece instanceof King && Math.abs(to - from) == 2)
+				((Piece) squares[(from + to) / 2].piece()).moveTo(squares[castlingRookSquare(to)]);
+		}
+		if (captured != null) {
+			final boolean enPassant = (undo & (1L << 44)) != 0L;
+			final int capturedSquare = enPassant ? offset(to, 0, (piece.color() == Color.WHITE) ? -1 : 1) : to;
+			((Movable) captured).moveTo(squares[capturedSquare]);
+		}
+
+		setTurn(Color.values()[(int) (undo >>> 43) & 1]);
+		setCastlingRights((int) (undo >>> 32) & ALL_CASTLING_RIGHTS);
+		setEnPassantSquare((int) ((undo >>> 36) & 127) - 1);
+	}
+
+	/**
+	 * Gets all legal moves of the player.
+	 * @param color color of the player
+	 * @return new list of packed moves
+	 * @see #legalMoves(Color, MoveList)
+	 */
+	public MoveList legalMoves(@NotNull Color color) {
+		var moves = new MoveList();
+		legalMoves(color, moves);
+		return moves;
+	}
+
+	/**
+	 * Generates all legal moves of the player into the list, replacing its content.
+	 * @param color color of the player
+	 * @param moves buffer for the moves, reused to avoid allocations
+	 * @return count of the legal moves
+	 * @see Move
+	 */
+	public int legalMoves(@NotNull Color color, @NotNull MoveList moves) {
+		moves.clear();
+		moveGenerator().generate(color, moves, false);
+		return moves.size();
+	}
+
+	/**
+	 * Checks if the player has any legal move, stopping the generation at the first found.
+	 * @param color color of the player
+	 * @return true if the player can make any move
+	 */
+	public boolean hasLegalMove(@NotNull Color color) {
+		var moves = new MoveList(8);
+		moveGenerator().generate(color, moves, true);
+		return !moves.isEmpty();
+	}
+
+	/**
+	 * Gets pieces checking the King of the player, squares stopping the check and pieces pinned
+	 * to the King. Masks are computed once per position and cached until the position changes.
+	 * @param color color of the King
+	 * @return masks of the current position, updated in place after the position changes
+	 */
+	public CheckInfo checkInfo(@NotNull Color color) {
+		var checkInfo = checkInfos[color.ordinal()];
+		if (checkInfo == null) checkInfo = checkInfos[color.ordinal()] = new CheckInfo(this, color);
+		return checkInfo.update();
+	}
+
+	/**
+	 * Gets part of algebraic notation of the move telling its piece apart from other pieces of the
+	 * same type and color, which could legally move to the same square. Has to be called before the
+	 * move is made.
+	 * @param move packed move with the type of the moved piece
+	 * @return line, row, both of them or an empty string if the move isn't ambiguous
+	 * @see Move#toSAN(int, String)
+	 */
+	public String disambiguation(int move) {
+		final int typeIndex = Move.piece(move);
+		if (typeIndex <= Bitboards.PAWN || typeIndex == Bitboards.KING) return "";
+		final int from = Move.from(move);
+		final int to = Move.to(move);
+		var color = squares[from].piece().color();
+		long rivals = attackersTo(to, color) & bitboard(Bitboards.slot(color, typeIndex)) & ~Bitboards.bit(from);
+		if (rivals == 0L) return "";
+		var checkInfo = checkInfo(color);
+		boolean ambiguous = false;
+		boolean sameLine = false;
+		boolean sameRow = false;
+		for (; rivals != 0L; rivals &= rivals - 1) {
+			final int rival = Long.numberOfTrailingZeros(rivals);
+			if (!checkInfo.allows(rival, to)) continue;
+			ambiguous = true;
+			sameLine |= (rival & 7) == (from & 7);
+			sameRow |= (rival >>> 3) == (from >>> 3);
+		}
+		if (!ambiguous) return "";
+		if (!sameLine) return String.valueOf(Bitboards.line(from));
+		if (!sameRow) return String.valueOf(Bitboards.row(from));
+		return "" + Bitboards.line(from) + Bitboards.row(from);
+	}
+
+	private MoveGenerator moveGenerator() {
+		if (moveGenerator == null) moveGenerator = new MoveGenerator(this);
+		return moveGenerator;
+	}
+
+	/**
+	 * Gets square of the rook taking part in castling.
+	 * @param kingTarget index of the square the king moves to
+	 */
+	private static int castlingRookSquare(int kingTarget) {
+		return ((kingTarget & 7) == 6) ? kingTarget + 1 : kingTarget - 2;
+	}
+
+	private void promote(Color color, int typeIndex, Square square) {
+		final int slot = Bitboards.slot(color, typeIndex);
+		if (promotionPoolSizes[slot] == 0) createPiece(Bitboards.type(typeIndex), color, square);
+		else promotionPool[slot][--promotionPoolSizes[slot]].moveTo(square);
+	}
+
+	private void returnToPool(Piece piece) {
+		final int slot = Bitboards.slot(piece.color(), Bitboards.typeIndex(piece));
+		var pool = promotionPool[slot];
+		if (pool == null) pool = promotionPool[slot] = new Piece[2];
+		else if (promotionPoolSizes[slot] == pool.length)
+			pool = promotionPool[slot] = Arrays.copyOf(pool, pool.length * 2);
+		pool[promotionPoolSizes[slot]++] = piece;
+	}
+
 	@Override public final boolean equals(Object o) {
 		if (this == o) return true;
 		if (!(o instanceof Board board)) return false;
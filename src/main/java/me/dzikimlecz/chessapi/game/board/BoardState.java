@@ -2,14 +2,9 @@ package me.dzikimlecz.chessapi.game.board;
 
 import me.dzikimlecz.chessapi.game.board.pieces.ChessPiece;
 import me.dzikimlecz.chessapi.game.board.pieces.King;
-import me.dzikimlecz.chessapi.game.board.pieces.Knight;
-import me.dzikimlecz.chessapi.game.board.pieces.Piece;
 import me.dzikimlecz.chessapi.game.board.square.Square;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 public class BoardState {
 	private final Board board;
 
@@ -22,55 +17,31 @@ public class BoardState {
 		return (piece != null) && (piece.color() == color);
 	}
 
+	/**
+	 * Checks if any piece of the opponent of {@code attackedColor} attacks the square.
+	 * King of {@code attackedColor} does not block attacks of sliding pieces, so squares behind
+	 * him on the line of an attack are attacked as well.
+	 * @param square square to be checked
+	 * @param attackedColor color of the player, whose square is checked
+	 * @return true if the square is attacked
+	 * @see AttackTables
+	 */
 	public boolean isSquareAttacked(Square square, Color attackedColor) {
-		return board.getPiecesMovingTo(
-				square,
-				Piece.class,
-				attackedColor.opposite()
-		).stream().anyMatch(
-				opponentPiece -> opponentPiece.getClass() == Knight.class
-						|| noPiecesBetween(square, board.square(opponentPiece.location()[0],
-						                                        opponentPiece.location()[1]))
-		);
+		long occupancy = board.occupancy() & ~board.bitboard(attackedColor, King.class);
+		return board.attackersTo(square.index(), attackedColor.opposite(), occupancy) != 0L;
 	}
 
+	/**
+	 * Checks if the piece is pinned - stands between its King and an opponent's sliding piece,
+	 * which would attack the King if the piece left its square.
+	 * @param piece piece to be checked
+	 * @return true if the piece is pinned to its King
+	 * @see CheckInfo#pinned()
+	 */
 	public boolean isPieceDefendingKing(ChessPiece piece) {
-		Color color = piece.color();
-		King king = board.getKing(color);
-		Color oppositeColor = color.opposite();
-
-		List<ChessPiece> opponentPiecesPinningToKing =
-				board.getPiecesMovingTo(
-						king.square(),
-						null,
-						oppositeColor
-				).stream()
-						.filter(opponentPiece -> opponentPiece.getClass() != Knight.class)
-						.filter(opponentPiece ->
-								        countOfPiecesBetween(
-										        board.square(opponentPiece.location()[0],
-										                     opponentPiece.location()[1]),
-										        king.square()
-								        ) == 1)
-						.collect(Collectors.toList());
-		List<ChessPiece> attackingOpponentPieces =
-				board.getPiecesMovingTo(
-						board.square(piece.location()[0],
-						             piece.location()[1]),
-						null,
-						oppositeColor
-				).stream()
-						.filter(opponentPiece -> opponentPiece.getClass() != Knight.class)
-						.filter(opponentPiece -> noPiecesBetween(
-								board.square(piece.location()[0],
-								             piece.location()[1]),
-								board.square(opponentPiece.location()[0],
-								             opponentPiece.location()[1])))
-						.collect(Collectors.toList());
-
-		opponentPiecesPinningToKing.retainAll(attackingOpponentPieces);
-
-		return !opponentPiecesPinningToKing.isEmpty();
+		final int pieceSquare = piece.squareIndex();
+		if (pieceSquare == Board.NO_SQUARE) return false;
+		return board.checkInfo(piece.color()).isPinned(pieceSquare);
 	}
 
 	public boolean anyPiecesBetween(@NotNull Square square, @NotNull Square square1) {
@@ -78,19 +49,16 @@ public class BoardState {
 	}
 
 	public boolean noPiecesBetween(@NotNull Square square, @NotNull Square square1) {
-		var squares = board.squaresBetween(square, square1);
-		return squares.isEmpty() || squares.stream().allMatch(square2 -> square2.piece() == null);
+		if (square == square1) return square.piece() == null;
+		return (Bitboards.BETWEEN[square.index()][square1.index()] & board.occupancy()) == 0L;
 	}
 
 	public int countOfPiecesBetween(@NotNull Square square, @NotNull Square square1) {
-		return (int) board.squaresBetween(square, square1).stream()
-				.filter(square2 -> square2.piece() != null).count();
+		if (square == square1) return (square.piece() == null) ? 0 : 1;
+		return Long.bitCount(Bitboards.BETWEEN[square.index()][square1.index()] & board.occupancy());
 	}
 
 	public boolean isKingAttacked(Color attacked) {
-		var kingsSquare = board.getKing(attacked).square();
-		return board.getPiecesMovingTo(kingsSquare, Piece.class, attacked.opposite()).stream()
-				.anyMatch(piece -> piece instanceof Knight || noPiecesBetween(
-						board.square(piece.location()[0], piece.location()[1]), kingsSquare));
+		return board.checkInfo(attacked).isCheck();
 	}
 }
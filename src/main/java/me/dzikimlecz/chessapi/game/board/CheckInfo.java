@@ -0,0 +1,153 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import me.dzikimlecz.chessapi.game.board.pieces.Bishop;
+import me.dzikimlecz.chessapi.game.board.pieces.Queen;
+import me.dzikimlecz.chessapi.game.board.pieces.Rook;
+
+import static me.dzikimlecz.chessapi.game.board.Bitboards.*;
+
+/**
+ * Safety of the King of one player in a position: pieces checking him, squares on which a move
+ * stops the check and pieces pinned to him. Computed once per position, so legality of a move of
+ * any piece other than the King is answered in constant time.
+ * <br>Instances are reused by the board, so they describe the position only until it changes.
+ * @see Board#checkInfo(Color)
+ */
+public final class CheckInfo {
+	private final Board board;
+	private final Color color;
+
+	private long key;
+	private boolean computed;
+	private int kingSquare = Board.NO_SQUARE;
+	private long checkers;
+	private long checkMask;
+	private long pinned;
+
+	CheckInfo(Board board, Color color) {
+		this.board = board;
+		this.color = color;
+	}
+
+	/**
+	 * Recomputes the masks if the position has changed since the last computation.
+	 */
+	CheckInfo update() {
+		final long key = board.zobristKey();
+		if (computed && this.key == key) return this;
+		this.key = key;
+		computed = true;
+		kingSquare = board.kingSquare(color);
+		if (kingSquare == Board.NO_SQUARE) {
+			checkers = pinned = 0L;
+			checkMask = -1L;
+			return this;
+		}
+		final Color them = color.opposite();
+		final long occupancy = board.occupancy();
+		checkers = board.attackersTo(kingSquare, them, occupancy);
+		if (checkers == 0L) checkMask = -1L;
+		// only the king can escape double check
+		else if (Long.bitCount(checkers) > 1) checkMask = 0L;
+		else checkMask = checkers | BETWEEN[kingSquare][Long.numberOfTrailingZeros(checkers)];
+
+		long snipers = (ROOK_RAYS[kingSquare]
+				& (board.bitboard(them, Rook.class) | board.bitboard(them, Queen.class)))
+				| (BISHOP_RAYS[kingSquare]
+				& (board.bitboard(them, Bishop.class) | board.bitboard(them, Queen.class)));
+		final long ownPieces = board.occupancy(color);
+		pinned = 0L;
+		for (; snipers != 0L; snipers &= snipers - 1) {
+			long between = BETWEEN[kingSquare][Long.numberOfTrailingZeros(snipers)] & occupancy;
+			if (Long.bitCount(between) == 1) pinned |= between & ownPieces;
+		}
+		return this;
+	}
+
+	/**
+	 * Gets color of the King.
+	 */
+	public Color color() {
+		return color;
+	}
+
+	/**
+	 * Gets index of the square of the King or {@link Board#NO_SQUARE} if there's no King.
+	 */
+	public int kingSquare() {
+		return kingSquare;
+	}
+
+	/**
+	 * Gets bitboard of the opponent's pieces checking the King.
+	 */
+	public long checkers() {
+		return checkers;
+	}
+
+	public boolean isCheck() {
+		return checkers != 0L;
+	}
+
+	/**
+	 * Gets bitboard of squares on which a move of a piece other than the King stops the check
+	 * (capturing the checking piece or blocking its ray). All squares if there is no check, none in
+	 * case of double check.
+	 */
+	public long checkMask() {
+		return checkMask;
+	}
+
+	/**
+	 * Gets bitboard of pieces pinned to the King.
+	 */
+	public long pinned() {
+		return pinned;
+	}
+
+	public boolean isPinned(int square) {
+		return (pinned & bit(square)) != 0L;
+	}
+
+	/**
+	 * Gets bitboard of squares on which the piece from the square may stay pinned: the line going
+	 * through it and the King. All squares if the piece isn't pinned.
+	 * @param square index of the square of the piece
+	 */
+	public long pinRay(int square) {
+		return ((pinned & bit(square)) == 0L) ? -1L : LINE[kingSquare][square];
+	}
+
+	/**
+	 * Gets bitboard of squares to which the piece from the square may move without leaving the King
+	 * in check.
+	 * @param square index of the square of a piece other than the King
+	 */
+	public long allowedTargets(int square) {
+		return checkMask & pinRay(square);
+	}
+
+	/**
+	 * Checks if moving the piece (other than the King) between the squares doesn't leave the King
+	 * in check. Captures en passant have to be checked with {@link #allowsEnPassant(int, int)}.
+	 * @param from index of the starting square
+	 * @param to index of the target square
+	 */
+	public boolean allows(int from, int to) {
+		return (allowedTargets(from) & bit(to)) != 0L;
+	}
+
+	/**
+	 * Checks if capture en passant doesn't leave the King in check. The captured pawn may be the
+	 * checking piece, and removing two pieces from a row may expose the King, so the capture is
+	 * made and unmade on the board to check it.
+	 * @param from index of the square of the capturing pawn
+	 * @param to index of the en passant target square
+	 */
+	public boolean allowsEnPassant(int from, int to) {
+		long undo = board.makeMove(Move.of(from, to, Move.CAPTURE | Move.EN_PASSANT));
+		boolean legal = board.attackersTo(kingSquare, color.opposite(), board.occupancy()) == 0L;
+		board.unmakeMove(undo);
+		return legal;
+	}
+}
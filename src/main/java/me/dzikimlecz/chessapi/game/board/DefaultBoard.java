@@ -1,30 +1,18 @@
 package me.dzikimlecz.chessapi.game.board;
 
 import me.dzikimlecz.chessapi.game.board.pieces.*;
-import me.dzikimlecz.chessapi.game.board.square.Square;
-import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import static me.dzikimlecz.chessapi.game.board.Color.BLACK;
 import static me.dzikimlecz.chessapi.game.board.Color.WHITE;
 
 class DefaultBoard extends Board {
 
-	private final Map<Color, King> kings;
-
 	DefaultBoard() {
 		super();
 		putPieces();
-		var blackKing = Objects.requireNonNull((King) square('e', 8).piece());
-		var whiteKing = Objects.requireNonNull((King) square('e', 1).piece());
-		kings = Map.of(WHITE, whiteKing, BLACK, blackKing);
-	}
-
-	@Override public King getKing(@NotNull Color color) {
-		return Objects.requireNonNull(kings.get(color));
+		setCastlingRights(ALL_CASTLING_RIGHTS);
 	}
 
 	private void putPieces() {
@@ -0,0 +1,198 @@
+package me.dzikimlecz.chessapi.game.board;
+
+/**
+ * Helpers for working with moves packed into a single int:
+ * <ul>
+ *     <li>bits 0-5 - index of the starting square,</li>
+ *     <li>bits 6-11 - index of the target square,</li>
+ *     <li>bits 12-14 - type index of the piece chosen for promotion + 1 (0 if not a promotion),</li>
+ *     <li>bits 15-20 - flags ({@link #CAPTURE}, {@link #DOUBLE_PUSH}, {@link #EN_PASSANT},
+ *     {@link #CASTLING}, {@link #CHECK}, {@link #MATE}),</li>
+ *     <li>bits 21-23 - type index of the moved piece + 1 (0 if unknown),</li>
+ *     <li>bits 24-26 - type index of the captured piece + 1 (0 if nothing is captured or it's
+ *     unknown).</li>
+ * </ul>
+ * Moves generated by the board carry only squares, promotion and the first four flags. Moves
+ * made in a game are described completely.
+ * Packed moves are plain values, so they can be stored and passed around without allocations.
+ * @see Board#makeMove(int)
+ * @see Bitboards
+ */
+public final class Move {
+	/**
+	 * Value not representing any move.
+	 */
+	public static final int NONE = 0;
+
+	/*
+	 * Flags of moves.
+	 */
+	public static final int CAPTURE = 1;
+	public static final int DOUBLE_PUSH = 2;
+	public static final int EN_PASSANT = 4;
+	public static final int CASTLING = 8;
+	public static final int CHECK = 16;
+	public static final int MATE = 32;
+
+	private static final int TO_SHIFT = 6;
+	private static final int PROMOTION_SHIFT = 12;
+	private static final int FLAGS_SHIFT = 15;
+	private static final int PIECE_SHIFT = 21;
+	private static final int CAPTURED_SHIFT = 24;
+
+	private static final String PIECE_LETTERS = "PNBRQK";
+
+	private Move() {}
+
+	/**
+	 * Packs a move.
+	 * @param from index of the starting square
+	 * @param to index of the target square
+	 * @return packed move
+	 */
+	public static int of(int from, int to) {
+		return from | (to << TO_SHIFT);
+	}
+
+	/**
+	 * Packs a move.
+	 * @param from index of the starting square
+	 * @param to index of the target square
+	 * @param flags flags of the move
+	 * @return packed move
+	 */
+	public static int of(int from, int to, int flags) {
+		return of(from, to) | (flags << FLAGS_SHIFT);
+	}
+
+	/**
+	 * Packs a move.
+	 * @param from index of the starting square
+	 * @param to index of the target square
+	 * @param flags flags of the move
+	 * @param promotion type index of the piece chosen for promotion, -1 if it's not a promotion
+	 * @return packed move
+	 */
+	public static int of(int from, int to, int flags, int promotion) {
+		return of(from, to, flags) | ((promotion + 1) << PROMOTION_SHIFT);
+	}
+
+	/**
+	 * Gets index of the starting square of the move.
+	 */
+	public static int from(int move) {
+		return move & 63;
+	}
+
+	/**
+	 * Gets index of the target square of the move.
+	 */
+	public static int to(int move) {
+		return (move >>> TO_SHIFT) & 63;
+	}
+
+	/**
+	 * Gets type index of the piece chosen for promotion.
+	 * @return type index or -1 if the move is not a promotion
+	 */
+	public static int promotion(int move) {
+		return ((move >>> PROMOTION_SHIFT) & 7) - 1;
+	}
+
+	/**
+	 * Gets flags of the move.
+	 */
+	public static int flags(int move) {
+		return (move >>> FLAGS_SHIFT) & 63;
+	}
+
+	/**
+	 * Gets the move with the flags added.
+	 */
+	public static int withFlags(int move, int flags) {
+		return move | (flags << FLAGS_SHIFT);
+	}
+
+	/**
+	 * Gets type index of the moved piece.
+	 * @return type index or -1 if it's unknown
+	 */
+	public static int piece(int move) {
+		return ((move >>> PIECE_SHIFT) & 7) - 1;
+	}
+
+	/**
+	 * Gets the move with the type index of the moved piece set.
+	 */
+	public static int withPiece(int move, int typeIndex) {
+		return (move & ~(7 << PIECE_SHIFT)) | ((typeIndex + 1) << PIECE_SHIFT);
+	}
+
+	/**
+	 * Gets type index of the captured piece.
+	 * @return type index or -1 if the move isn't a capture or the piece is unknown
+	 */
+	public static int captured(int move) {
+		return ((move >>> CAPTURED_SHIFT) & 7) - 1;
+	}
+
+	/**
+	 * Gets the move with the type index of the captured piece set.
+	 */
+	public static int withCaptured(int move, int typeIndex) {
+		return (move & ~(7 << CAPTURED_SHIFT)) | ((typeIndex + 1) << CAPTURED_SHIFT);
+	}
+
+	/**
+	 * Gets the move with the type index of the piece chosen for promotion set.
+	 */
+	public static int withPromotion(int move, int typeIndex) {
+		return (move & ~(7 << PROMOTION_SHIFT)) | ((typeIndex + 1) << PROMOTION_SHIFT);
+	}
+
+	/**
+	 * Checks if the move has the flag.
+	 */
+	public static boolean is(int move, int flag) {
+		return (flags(move) & flag) != 0;
+	}
+
+	/**
+	 * Gets standard algebraic notation of the move, e.g. {@code Nbxd7}, {@code bxa8=Q+} or
+	 * {@code O-O}. The move has to carry the type of the moved piece.
+	 * @param disambiguation line and/or row of the starting square, needed if other pieces could
+	 *                       move to the same square
+	 * @see Board#disambiguation(int)
+	 */
+	public static String toSAN(int move, String disambiguation) {
+		var builder = new StringBuilder(8);
+		final int to = to(move);
+		if (is(move, CASTLING)) {
+			builder.append(((to & 7) == 6) ? "O-O" : "O-O-O");
+		} else {
+			final int piece = piece(move);
+			if (piece > Bitboards.PAWN) builder.append(PIECE_LETTERS.charAt(piece));
+			else if (is(move, CAPTURE)) builder.append(Bitboards.line(from(move)));
+			builder.append(disambiguation);
+			if (is(move, CAPTURE)) builder.append('x');
+			builder.append(Bitboards.line(to)).append(Bitboards.row(to));
+			final int promotion = promotion(move);
+			if (promotion >= 0) builder.append('=').append(PIECE_LETTERS.charAt(promotion));
+		}
+		if (is(move, MATE)) builder.append('#');
+		else if (is(move, CHECK)) builder.append('+');
+		return builder.toString();
+	}
+
+	/**
+	 * Gets long algebraic notation of the move, e.g. {@code e2e4} or {@code e7e8q}.
+	 */
+	public static String toString(int move) {
+		var builder = new StringBuilder(5)
+				.append(Bitboards.line(from(move))).append(Bitboards.row(from(move)))
+				.append(Bitboards.line(to(move))).append(Bitboards.row(to(move)));
+		final int promotion = promotion(move);
+		if (promotion >= 0) builder.append("pnbrqk".charAt(promotion));
+		return builder.toString();
+	}
+}
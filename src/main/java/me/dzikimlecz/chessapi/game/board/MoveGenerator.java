@@ -0,0 +1,146 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import me.dzikimlecz.chessapi.game.board.pieces.*;
+
+import static me.dzikimlecz.chessapi.game.board.Bitboards.*;
+
+/**
+ * Generator of legal moves. Uses check mask (squares on which a move stops the check) and
+ * pinned pieces computed once per position, so moves of pieces are legal by construction and
+ * don't have to be tried on the board. The only exception are captures en passant, which are
+ * rare enough to be checked by making them.
+ * @see Board#legalMoves(Color, MoveList)
+ * @see CheckInfo
+ */
+final class MoveGenerator {
+	private static final int[] PROMOTIONS = {QUEEN, ROOK, BISHOP, KNIGHT};
+
+	private final Board board;
+
+	private Color us;
+	private Color them;
+	private int kingSquare;
+	private long occupancy;
+	private long ownPieces;
+	private long enemyPieces;
+	private CheckInfo checkInfo;
+
+	MoveGenerator(Board board) {
+		this.board = board;
+	}
+
+	/**
+	 * Adds all legal moves of the player to the list.
+	 * @param color color of the player
+	 * @param moves list to which moves are added
+	 * @param firstOnly if the generation may stop after finding the first legal move
+	 */
+	void generate(Color color, MoveList moves, boolean firstOnly) {
+		us = color;
+		them = color.opposite();
+		kingSquare = board.kingSquare(color);
+		if (kingSquare == Board.NO_SQUARE) return;
+		occupancy = board.occupancy();
+		ownPieces = board.occupancy(us);
+		enemyPieces = board.occupancy(them);
+
+		checkInfo = board.checkInfo(us);
+		final long checkers = checkInfo.checkers();
+		addKingMoves(moves);
+		if (firstOnly && !moves.isEmpty()) return;
+		// only the king can escape double check
+		if (Long.bitCount(checkers) > 1) return;
+
+		if (checkers == 0L) addCastlings(moves);
+		addPawnMoves(moves, firstOnly);
+		for (int typeIndex = KNIGHT; typeIndex <= QUEEN; typeIndex++) {
+			if (firstOnly && !moves.isEmpty()) return;
+			for (int i = 0; i < board.pieceCount(us, typeIndex); i++) {
+				final int from = board.pieceSquare(us, typeIndex, i);
+				final long targets = attacks(typeIndex, from) & ~ownPieces;
+				addMoves(moves, from, targets & checkInfo.allowedTargets(from));
+			}
+		}
+	}
+
+	private long attacks(int typeIndex, int from) {
+		return switch (typeIndex) {
+			case KNIGHT -> AttackTables.knightAttacks(from);
+			case BISHOP -> AttackTables.bishopAttacks(from, occupancy);
+			case ROOK -> AttackTables.rookAttacks(from, occupancy);
+			case QUEEN -> AttackTables.queenAttacks(from, occupancy);
+			default -> 0L;
+		};
+	}
+
+	private void addKingMoves(MoveList moves) {
+		long targets = AttackTables.kingAttacks(kingSquare) & ~ownPieces;
+		// the king doesn't block rays of attacks on squares behind him
+		final long occupancyWithoutKing = occupancy & ~bit(kingSquare);
+		for (; targets != 0L; targets &= targets - 1) {
+			final int to = Long.numberOfTrailingZeros(targets);
+			if (board.attackersTo(to, them, occupancyWithoutKing) == 0L)
+				moves.add(Move.of(kingSquare, to, ((enemyPieces & bit(to)) != 0L) ? Move.CAPTURE : 0));
+		}
+	}
+
+	private void addCastlings(MoveList moves) {
+		final int rights = board.castlingRights();
+		final boolean white = us == Color.WHITE;
+		final int home = white ? Board.index('e', 1) : Board.index('e', 8);
+		if (kingSquare != home) return;
+		if ((rights & (white ? Board.WHITE_SHORT_CASTLING : Board.BLACK_SHORT_CASTLING)) != 0)
+			addCastling(moves, home + 3, home + 2, home + 1);
+		if ((rights & (white ? Board.WHITE_LONG_CASTLING : Board.BLACK_LONG_CASTLING)) != 0)
+			addCastling(moves, home - 4, home - 2, home - 1);
+	}
+
+	private void addCastling(MoveList moves, int rookSquare, int kingTarget, int passedSquare) {
+		if ((board.bitboard(us, Rook.class) & bit(rookSquare)) == 0L) return;
+		if ((BETWEEN[kingSquare][rookSquare] & occupancy) != 0L) return;
+		if (board.attackersTo(passedSquare, them, occupancy) != 0L) return;
+		if (board.attackersTo(kingTarget, them, occupancy) != 0L) return;
+		moves.add(Move.of(kingSquare, kingTarget, Move.CASTLING));
+	}
+
+	private void addPawnMoves(MoveList moves, boolean firstOnly) {
+		final int forward = (us == Color.WHITE) ? 8 : -8;
+		final int startRow = us.getPawnStartingRow();
+		final int enPassantSquare = board.enPassantSquare();
+		// iterates through a copy, as checking captures en passant moves pieces on the board
+		for (long pawns = board.bitboard(us, Pawn.class); pawns != 0L; pawns &= pawns - 1) {
+			if (firstOnly && !moves.isEmpty()) return;
+			final int from = Long.numberOfTrailingZeros(pawns);
+			final long allowed = checkInfo.allowedTargets(from);
+			final int to = from + forward;
+			if (to >= 0 && to < 64 && (occupancy & bit(to)) == 0L) {
+				if ((allowed & bit(to)) != 0L) addPawnMove(moves, from, to, 0);
+				final int doubleTo = to + forward;
+				if (row(from) == startRow && (occupancy & bit(doubleTo)) == 0L
+						&& (allowed & bit(doubleTo)) != 0L)
+					moves.add(Move.of(from, doubleTo, Move.DOUBLE_PUSH));
+			}
+			long captures = AttackTables.pawnAttacks(from, us) & enemyPieces & allowed;
+			for (; captures != 0L; captures &= captures - 1)
+				addPawnMove(moves, from, Long.numberOfTrailingZeros(captures), Move.CAPTURE);
+			if (enPassantSquare != Board.NO_SQUARE
+					&& (AttackTables.pawnAttacks(from, us) & bit(enPassantSquare)) != 0L
+					&& checkInfo.allowsEnPassant(from, enPassantSquare))
+				moves.add(Move.of(from, enPassantSquare, Move.CAPTURE | Move.EN_PASSANT));
+		}
+	}
+
+	private void addPawnMove(MoveList moves, int from, int to, int flags) {
+		final int row = row(to);
+		if (row == 1 || row == 8) {
+			for (int promotion : PROMOTIONS) moves.add(Move.of(from, to, flags, promotion));
+		} else moves.add(Move.of(from, to, flags));
+	}
+
+	private void addMoves(MoveList moves, int from, long targets) {
+		for (; targets != 0L; targets &= targets - 1) {
+			final int to = Long.numberOfTrailingZeros(targets);
+			moves.add(Move.of(from, to, ((enemyPieces & bit(to)) != 0L) ? Move.CAPTURE : 0));
+		}
+	}
+}
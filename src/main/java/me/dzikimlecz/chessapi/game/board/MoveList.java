@@ -0,0 +1,80 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer of packed moves. Meant to be reused - cleared and filled again - so
+ * generating moves doesn't allocate anything once the buffer has grown big enough.
+ * @see Move
+ * @see Board#legalMoves(Color, MoveList)
+ */
+public final class MoveList {
+	private int[] moves;
+	private int size;
+
+	public MoveList() {
+		this(64);
+	}
+
+	public MoveList(int capacity) {
+		moves = new int[Math.max(capacity, 1)];
+	}
+
+	/**
+	 * Adds packed move at the end of the list.
+	 */
+	public void add(int move) {
+		if (size == moves.length) moves = Arrays.copyOf(moves, size * 2);
+		moves[size++] = move;
+	}
+
+	/**
+	 * Gets packed move of the specified position.
+	 */
+	public int get(int i) {
+		if (i < 0 || i >= size) throw new IndexOutOfBoundsException(i);
+		return moves[i];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all moves from the list, keeping its capacity.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Checks if the list contains a move between the squares (of any flags and promotion).
+	 * @param from index of the starting square
+	 * @param to index of the target square
+	 */
+	public boolean contains(int from, int to) {
+		for (int i = 0; i < size; i++)
+			if (Move.from(moves[i]) == from && Move.to(moves[i]) == to) return true;
+		return false;
+	}
+
+	/**
+	 * Copies moves to a new array.
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(moves, size);
+	}
+
+	@Override public String toString() {
+		var builder = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) builder.append(", ");
+			builder.append(Move.toString(moves[i]));
+		}
+		return builder.append(']').toString();
+	}
+}
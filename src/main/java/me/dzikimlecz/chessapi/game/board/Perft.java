@@ -0,0 +1,148 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counter of leaf nodes of the tree of legal moves ("perft"). Results for well known positions
+ * are published, so it's used to check correctness of move generation, and count of nodes
+ * visited per second measures its speed.
+ * @see Board#legalMoves(Color, MoveList)
+ */
+public final class Perft {
+	private Perft() {}
+
+	/**
+	 * Counts positions reachable in exactly {@code depth} moves, starting with the side to move.
+	 * @param board board with the position, left in the same position after counting
+	 * @param depth count of moves
+	 * @return count of the positions (1 for depth 0)
+	 */
+	public static long perft(@NotNull Board board, int depth) {
+		return perft(board, board.turn(), depth);
+	}
+
+	/**
+	 * Counts positions reachable in exactly {@code depth} moves.
+	 * @param board board with the position, left in the same position after counting
+	 * @param color color of the player making the first move
+	 * @param depth count of moves
+	 * @return count of the positions (1 for depth 0)
+	 */
+	public static long perft(@NotNull Board board, @NotNull Color color, int depth) {
+		if (depth < 0) throw new IllegalArgumentException("Negative depth: " + depth);
+		if (depth == 0) return 1L;
+		return count(board, color, depth, buffers(depth));
+	}
+
+	/**
+	 * Counts positions reachable in exactly {@code depth} moves, starting with the side to move,
+	 * in the common fork/join pool.
+	 * @see #parallelPerft(Board, Color, int, ForkJoinPool)
+	 */
+	public static long parallelPerft(@NotNull Board board, int depth) {
+		return parallelPerft(board, board.turn(), depth, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Counts positions reachable in exactly {@code depth} moves, splitting the moves from the
+	 * root between tasks of the pool. Each task works on its own copy of the board.
+	 * @param board board with the position, not modified by counting; it is copied without locking,
+	 *              so it mustn't be changed by other threads during the call
+	 * @param color color of the player making the first move
+	 * @param depth count of moves
+	 * @param pool pool in which the counting is done
+	 * @return count of the positions (1 for depth 0)
+	 */
+	public static long parallelPerft(@NotNull Board board,
+	                                 @NotNull Color color,
+	                                 int depth,
+	                                 @NotNull ForkJoinPool pool) {
+		if (depth < 0) throw new IllegalArgumentException("Negative depth: " + depth);
+		if (depth <= 1) return perft(board, color, depth);
+		// the board is only read once, moves are generated on the copy
+		final Board prototype = board.copy();
+		return pool.invoke(new RootTask(prototype, color, depth, prototype.legalMoves(color)));
+	}
+
+	private static long count(Board board, Color color, int depth, MoveList[] buffers) {
+		var moves = buffers[depth];
+		final int size = board.legalMoves(color, moves);
+		if (depth == 1) return size;
+		long nodes = 0L;
+		for (int i = 0; i < size; i++) {
+			long undo = board.makeMove(moves.get(i));
+			nodes += count(board, color.opposite(), depth - 1, buffers);
+			board.unmakeMove(undo);
+		}
+		return nodes;
+	}
+
+	/**
+	 * Creates buffers of moves for each ply, so counting doesn't allocate.
+	 */
+	private static MoveList[] buffers(int depth) {
+		var buffers = new MoveList[depth + 1];
+		for (int i = 1; i <= depth; i++) buffers[i] = new MoveList();
+		return buffers;
+	}
+
+	/**
+	 * Forks one subtask per move from the root.
+	 */
+	private static final class RootTask extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+		private final Board prototype;
+		private final Color color;
+		private final int depth;
+		private final MoveList moves;
+
+		private RootTask(Board prototype, Color color, int depth, MoveList moves) {
+			this.prototype = prototype;
+			this.color = color;
+			this.depth = depth;
+			this.moves = moves;
+		}
+
+		@Override protected Long compute() {
+			List<MoveTask> tasks = new ArrayList<>(moves.size());
+			for (int i = 0; i < moves.size(); i++) {
+				var task = new MoveTask(prototype, color, depth, moves.get(i));
+				tasks.add(task);
+				task.fork();
+			}
+			long nodes = 0L;
+			for (MoveTask task : tasks) nodes += task.join();
+			return nodes;
+		}
+	}
+
+	/**
+	 * Counts nodes below a single move from the root on its own copy of the board.
+	 */
+	private static final class MoveTask extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+		private final Board prototype;
+		private final Color color;
+		private final int depth;
+		private final int move;
+
+		private MoveTask(Board prototype, Color color, int depth, int move) {
+			this.prototype = prototype;
+			this.color = color;
+			this.depth = depth;
+			this.move = move;
+		}
+
+		@Override protected Long compute() {
+			//the prototype is only read, so it's copied concurrently by all tasks
+			var board = prototype.copy();
+			board.makeMove(move);
+			return count(board, color.opposite(), depth - 1, buffers(depth - 1));
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random keys used to compute Zobrist hashes of positions. Hash of a position is a xor of keys
+ * of all pieces standing on their squares, castling rights, line of en passant target square and
+ * the side to move, so it can be updated incrementally by xor-ing keys of the changed elements.
+ */
+final class Zobrist {
+	/**
+	 * Keys of pieces indexed by color ordinal * 6 + type index and square index.
+	 */
+	static final long[][] PIECES = new long[12][64];
+	/**
+	 * Keys of castling rights, indexed by the castling rights bit field.
+	 */
+	static final long[] CASTLING = new long[16];
+	/**
+	 * Keys of en passant target squares, indexed by line of the square.
+	 */
+	static final long[] EN_PASSANT = new long[8];
+	/**
+	 * Key xor-ed into the hash when black is to move.
+	 */
+	static final long BLACK_TO_MOVE;
+
+	static {
+		// fixed seed, so hashes of positions are the same on each run
+		var random = new SplittableRandom(0x3243F6A8885A308DL);
+		for (long[] keys : PIECES)
+			for (int i = 0; i < keys.length; i++) keys[i] = random.nextLong();
+		for (int i = 0; i < CASTLING.length; i++) CASTLING[i] = random.nextLong();
+		for (int i = 0; i < EN_PASSANT.length; i++) EN_PASSANT[i] = random.nextLong();
+		BLACK_TO_MOVE = random.nextLong();
+	}
+
+	private Zobrist() {}
+
+	/**
+	 * Gets key of a piece of the specified color and type standing on the square.
+	 */
+	static long piece(Color color, int typeIndex, int squareIndex) {
+		return PIECES[color.ordinal() * 6 + typeIndex][squareIndex];
+	}
+}
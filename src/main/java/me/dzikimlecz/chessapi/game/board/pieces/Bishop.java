@@ -28,25 +28,6 @@ public final class Bishop extends TakeablePiece {
 	 */
 	@Override
 	protected void updateDeltas() {
-		final int startingRow = currentLocation.row();
-		final char startingLine = currentLocation.line();
-
-		//changes of the coords between squares on diagonals.
-		byte[][] diagonalDeltasSets = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
-		for (byte[] diagonalDeltas : diagonalDeltasSets) {
-			final byte rowDelta = diagonalDeltas[0];
-			final byte lineDelta = diagonalDeltas[1];
-			int rowCursor = startingRow;
-			char lineCursor = startingLine;
-
-			//iterates through all of squares on the diagonal
-			while (rowCursor >= 1 && rowCursor <= 8 &&
-					lineCursor >= 'a' && lineCursor <= 'h') {
-				if (lineCursor != startingLine || rowCursor != startingRow)
-					deltas.add(new int[] {lineCursor - startingLine, rowCursor - startingRow});
-				rowCursor += rowDelta;
-				lineCursor += lineDelta;
-			}
-		}
+		setDeltas(MoveDeltas.bishop(currentLocation.index()));
 	}
 }
@@ -1,5 +1,6 @@
 package me.dzikimlecz.chessapi.game.board.pieces;
 
+import me.dzikimlecz.chessapi.game.board.Board;
 import me.dzikimlecz.chessapi.game.board.Color;
 
 /**
@@ -39,6 +40,14 @@ public abstract class ChessPiece {
 	 */
 	public abstract char[] location();
 
+	/**
+	 * Gets index of the square, on which the ChessPiece is located (0-63, a1 being 0, h1 being 7
+	 * and h8 being 63).
+	 * @return index of location or {@link Board#NO_SQUARE} if the piece is not on the board
+	 * @see Board#square(int)
+	 */
+	public abstract int squareIndex();
+
 
 	/**
 	 * Checks if passed reference is pointing to same instance as this <b>(same as ==)</b>
@@ -26,16 +26,6 @@ public final class King extends Piece {
 	 */
 	@Override
 	protected void updateDeltas() {
-		var row = currentLocation.row();
-		var line = currentLocation.line();
-		for (int rowDelta = -1; rowDelta <= 1; rowDelta++) {
-			var destinationRow = row + rowDelta;
-			if (destinationRow < 1 || destinationRow > 8) continue;
-			for (int lineDelta = -1; lineDelta <= 1; lineDelta++) {
-				char destinationLine = (char) (line + lineDelta);
-				if (destinationLine < 'a' || destinationLine > 'h') continue;
-				deltas.add(new int[]{lineDelta, rowDelta});
-			}
-		}
+		setDeltas(MoveDeltas.king(currentLocation.index()));
 	}
 }
@@ -27,16 +27,6 @@ public final class Knight extends TakeablePiece {
 	 */
 	@Override
 	protected void updateDeltas() {
-		final int startingRow = currentLocation.row();
-		final int startingLine = currentLocation.line();
-		//all possible changes of coordinates for a knight being at the middle of the board.
-		byte[][] deltasSets =
-				{{-2, 1}, {-1, 2}, {1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}};
-		for (byte[] deltas: deltasSets) {
-			int lineCursor = startingLine + deltas[0];
-			int rowCursor = startingRow + deltas[1];
-			if (lineCursor < 'a' || lineCursor > 'h' || rowCursor < 1 || rowCursor > 8) continue;
-			this.deltas.add(new int[] {lineCursor - startingLine, rowCursor - startingRow});
-		}
+		setDeltas(MoveDeltas.knight(currentLocation.index()));
 	}
 }
@@ -0,0 +1,140 @@
+package me.dzikimlecz.chessapi.game.board.pieces;
+
+import me.dzikimlecz.chessapi.game.board.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Move deltas of a piece of a specific type standing on a specific square. All possible
+ * instances are created once, when the class is loaded, and shared between all pieces on all
+ * boards, so moving a piece doesn't allocate anything.
+ * @see Movable#moveDeltas()
+ */
+final class MoveDeltas {
+	private static final MoveDeltas[] WHITE_PAWN = new MoveDeltas[64];
+	private static final MoveDeltas[] BLACK_PAWN = new MoveDeltas[64];
+	private static final MoveDeltas[] KNIGHT = new MoveDeltas[64];
+	private static final MoveDeltas[] BISHOP = new MoveDeltas[64];
+	private static final MoveDeltas[] ROOK = new MoveDeltas[64];
+	private static final MoveDeltas[] QUEEN = new MoveDeltas[64];
+	private static final MoveDeltas[] KING = new MoveDeltas[64];
+
+	static {
+		final int[][] knightDeltas =
+				{{-2, 1}, {-1, 2}, {1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}};
+		for (int index = 0; index < 64; index++) {
+			final int line = index & 7;
+			final int row = index >>> 3;
+			WHITE_PAWN[index] = pawn(line, row, 1, 1);
+			BLACK_PAWN[index] = pawn(line, row, -1, 6);
+
+			List<int[]> deltas = new ArrayList<>();
+			for (int[] delta : knightDeltas)
+				if (isOnBoard(line + delta[0], row + delta[1])) deltas.add(delta.clone());
+			KNIGHT[index] = new MoveDeltas(index, deltas);
+
+			List<int[]> straightDeltas = straight(line, row);
+			List<int[]> diagonalDeltas = diagonal(line, row);
+			ROOK[index] = new MoveDeltas(index, straightDeltas);
+			BISHOP[index] = new MoveDeltas(index, diagonalDeltas);
+			List<int[]> queenDeltas = new ArrayList<>(straightDeltas);
+			queenDeltas.addAll(diagonalDeltas);
+			QUEEN[index] = new MoveDeltas(index, queenDeltas);
+
+			deltas = new ArrayList<>();
+			//king's deltas contain also his own square
+			for (int rowDelta = -1; rowDelta <= 1; rowDelta++)
+				for (int lineDelta = -1; lineDelta <= 1; lineDelta++)
+					if (isOnBoard(line + lineDelta, row + rowDelta))
+						deltas.add(new int[]{lineDelta, rowDelta});
+			KING[index] = new MoveDeltas(index, deltas);
+		}
+	}
+
+	/**
+	 * Immutable list of deltas. Arrays contained by it are shared, so they must not be modified.
+	 */
+	final List<int[]> deltas;
+	/**
+	 * Bitboard of squares reached by the deltas.
+	 */
+	final long targets;
+
+	private MoveDeltas(int index, List<int[]> deltas) {
+		this.deltas = List.copyOf(deltas);
+		long targets = 0L;
+		for (int[] delta : deltas)
+			targets |= 1L << (index + delta[1] * 8 + delta[0]);
+		this.targets = targets;
+	}
+
+	static MoveDeltas pawn(Color color, int index) {
+		return (color == Color.WHITE) ? WHITE_PAWN[index] : BLACK_PAWN[index];
+	}
+
+	static MoveDeltas knight(int index) {
+		return KNIGHT[index];
+	}
+
+	static MoveDeltas bishop(int index) {
+		return BISHOP[index];
+	}
+
+	static MoveDeltas rook(int index) {
+		return ROOK[index];
+	}
+
+	static MoveDeltas queen(int index) {
+		return QUEEN[index];
+	}
+
+	static MoveDeltas king(int index) {
+		return KING[index];
+	}
+
+	private static MoveDeltas pawn(int line, int row, int rowDelta, int startRow) {
+		List<int[]> deltas = new ArrayList<>();
+		if (isOnBoard(line, row + rowDelta)) {
+			//normal move one square upfront
+			deltas.add(new int[]{0, rowDelta});
+			//taking moves
+			if (line < 7) deltas.add(new int[]{1, rowDelta});
+			if (line > 0) deltas.add(new int[]{-1, rowDelta});
+			//possible first move (2 squares upfront)
+			if (row == startRow) deltas.add(new int[]{0, 2 * rowDelta});
+		}
+		return new MoveDeltas(row * 8 + line, deltas);
+	}
+
+	private static List<int[]> straight(int line, int row) {
+		List<int[]> deltas = new ArrayList<>();
+		//squares on the same line
+		for (int rowCursor = 0; rowCursor < 8; rowCursor++)
+			if (rowCursor != row) deltas.add(new int[]{0, rowCursor - row});
+		//squares on the same row
+		for (int lineCursor = 0; lineCursor < 8; lineCursor++)
+			if (lineCursor != line) deltas.add(new int[]{lineCursor - line, 0});
+		return deltas;
+	}
+
+	private static List<int[]> diagonal(int line, int row) {
+		List<int[]> deltas = new ArrayList<>();
+		final int[][] directions = {{1, 1}, {-1, 1}, {1, -1}, {-1, -1}};
+		for (int[] direction : directions) {
+			int lineCursor = line + direction[0];
+			int rowCursor = row + direction[1];
+			//iterates through all of squares on the diagonal
+			while (isOnBoard(lineCursor, rowCursor)) {
+				deltas.add(new int[]{lineCursor - line, rowCursor - row});
+				lineCursor += direction[0];
+				rowCursor += direction[1];
+			}
+		}
+		return deltas;
+	}
+
+	private static boolean isOnBoard(int line, int row) {
+		return line >= 0 && line < 8 && row >= 0 && row < 8;
+	}
+}
@@ -27,23 +27,7 @@ public final class Pawn extends TakeablePiece {
 	 */
 	@Override
 	protected void updateDeltas() {
-		final int row = currentLocation.row();
-		final char line = currentLocation.line();
-		int rowDelta = (color == Color.WHITE) ? 1 : -1;
-		int colorStartRow = (color == Color.WHITE) ? 2 : 7;
-		int destinationRow = row + rowDelta;
-		if (destinationRow >= 1 && destinationRow <= 8) {
-			//normal move one square upfront
-			deltas.add(new int[] {0, rowDelta});
-			//taking moves
-			if (line < 'h')
-				deltas.add(new int[] { 1, rowDelta});
-			if (line > 'a')
-				deltas.add(new int[] {-1, rowDelta});
-			//possible first move (2 squares upfront
-			if (colorStartRow == row)
-				deltas.add(new int[]{0, 2 * rowDelta});
-		}
+		setDeltas(MoveDeltas.pawn(color, currentLocation.index()));
 	}
 
 	/**
@@ -58,6 +42,12 @@ public final class Pawn extends TakeablePiece {
 		super.moveTo(square);
 	}
 
+	@Override
+	public void revertMoveTo(Square square) {
+		super.moveTo(square);
+		movesCount--;
+	}
+
 	public int movesCount() {
 		return movesCount;
 	}
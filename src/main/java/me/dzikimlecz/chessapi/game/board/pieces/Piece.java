@@ -1,9 +1,9 @@
 package me.dzikimlecz.chessapi.game.board.pieces;
 
+import me.dzikimlecz.chessapi.game.board.Board;
 import me.dzikimlecz.chessapi.game.board.Color;
 import me.dzikimlecz.chessapi.game.board.square.Square;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,6 +29,10 @@ public abstract class Piece extends ChessPiece implements Movable {
 	 * List of changes of coordinates for each hypothetically possible move from current location.
 	 */
 	protected List<int[]> deltas;
+	/**
+	 * Bitboard of squares reached by the move deltas.
+	 */
+	protected long targets;
 
 	/**
 	 * Creates new Pice of specified color and puts it it into specified square
@@ -37,12 +41,12 @@ public abstract class Piece extends ChessPiece implements Movable {
 	 */
 	public Piece(Color color, Square startLocation) {
 		super(color);
-		deltas = new ArrayList<>();
+		deltas = List.of();
 		moveTo(startLocation);
 	}
 
 	/**
-	 * Changes location of piece to square. Puts itself in it and clears move deltas.
+	 * Changes location of piece to square. Puts itself in it and updates move deltas.
 	 * @param square destination of the move.
 	 */
 	@Override
@@ -52,15 +56,30 @@ public abstract class Piece extends ChessPiece implements Movable {
 			throw new IllegalArgumentException("Could not move to square: " + square);
 		if (currentLocation != null) currentLocation.putPiece(null);
 		currentLocation = square;
-		deltas.clear();
 		updateDeltas();
 	}
 
+	/**
+	 * Moves the piece back to the square it came from, reverting its last move.
+	 * @param square the square the piece was moved from
+	 */
+	public void revertMoveTo(Square square) {
+		moveTo(square);
+	}
+
 	/**
 	 * Updates move deltas, called after each move.
 	 */
 	protected abstract void updateDeltas();
 
+	/**
+	 * Replaces move deltas with precomputed ones.
+	 */
+	final void setDeltas(MoveDeltas moveDeltas) {
+		deltas = moveDeltas.deltas;
+		targets = moveDeltas.targets;
+	}
+
 	/**
 	 * Gets location of the ChessPiece being a two-elements array of first element being an
 	 * alphabetic character and second being a integer (not character representation of it!)
@@ -71,6 +90,15 @@ public abstract class Piece extends ChessPiece implements Movable {
 		return new char[] {currentLocation.line(), (char) currentLocation.row()};
 	}
 
+	/**
+	 * Gets index of the square, on which the piece is located.
+	 * @return index of location or {@link Board#NO_SQUARE} if the piece is not on the board
+	 */
+	@Override
+	public int squareIndex() {
+		return (currentLocation == null) ? Board.NO_SQUARE : currentLocation.index();
+	}
+
 	/**
 	 * Gets square being current location of the object.
 	 * @return square in which the piece is currently located.
@@ -82,11 +110,20 @@ public abstract class Piece extends ChessPiece implements Movable {
 	/**
 	 * returns changes of coordinates for all possible moves in bounds of the board for this
 	 * instance
-	 * @return List of 2-elements arrays of first element being change of the line, and second
-	 * change of a row.
+	 * @return Immutable list of 2-elements arrays of first element being change of the line, and
+	 * second change of a row. Arrays are shared between pieces, so they must not be modified.
 	 */
 	@Override
 	public List<int[]> moveDeltas() {
-		return List.copyOf(deltas);
+		return deltas;
+	}
+
+	/**
+	 * Gets squares reached by the move deltas from the current location.
+	 * @return bitboard of the squares
+	 * @see me.dzikimlecz.chessapi.game.board.Bitboards
+	 */
+	public long moveTargets() {
+		return targets;
 	}
 }
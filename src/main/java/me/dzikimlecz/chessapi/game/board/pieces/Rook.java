@@ -25,15 +25,6 @@ public final class Rook extends TakeablePiece {
 	 */
 	@Override
 	protected void updateDeltas() {
-		final int startingRow = currentLocation.row();
-		final char startingLine = currentLocation.line();
-		//squares on the same row
-		for (int rowCursor = 1; rowCursor <= 8; rowCursor++)
-			if (rowCursor != startingRow)
-				deltas.add(new int[] {0, rowCursor - startingRow});
-		//squares on the same line
-		for (char lineCursor = 'a'; lineCursor <= 'h'; lineCursor++)
-			if (lineCursor != startingLine)
-				deltas.add(new int[] {lineCursor - startingLine, 0});
+		setDeltas(MoveDeltas.rook(currentLocation.index()));
 	}
 }
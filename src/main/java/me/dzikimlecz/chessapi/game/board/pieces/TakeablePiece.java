@@ -3,6 +3,8 @@ package me.dzikimlecz.chessapi.game.board.pieces;
 import me.dzikimlecz.chessapi.game.board.Color;
 import me.dzikimlecz.chessapi.game.board.square.Square;
 
+import java.util.List;
+
 /**
  * Class representing Takeable instance of Piece
  */
@@ -26,6 +28,7 @@ public abstract class TakeablePiece extends Piece implements Takeable {
 	public void beTaken() {
 		currentLocation.putPiece(null);
 		currentLocation = null;
-		deltas = null;
+		deltas = List.of();
+		targets = 0L;
 	}
 }
@@ -19,6 +19,10 @@ public class Square {
 	 * Row on which square is located
 	 */
 	private final int row;
+	/**
+	 * Index of the square (0-63), a1 being 0, h1 being 7 and h8 being 63
+	 */
+	private final int index;
 	/**
 	 * Color of the square
 	 */
@@ -27,6 +31,10 @@ public class Square {
 	 * Piece staying in the square, if there isn't one present its value is {@code null}
 	 */
 	private @Nullable ChessPiece containedPiece;
+	/**
+	 * Listener notified about every change of {@code containedPiece}, may be {@code null}
+	 */
+	private final @Nullable SquareListener listener;
 
 	/**
 	 * Initializes square and sets location converting raw coordinates
@@ -35,9 +43,22 @@ public class Square {
 	 * @param color color of the square
 	 */
 	public Square(int line, int row, @NotNull Color color) {
+		this(line, row, color, null);
+	}
+
+	/**
+	 * Initializes square and sets location converting raw coordinates
+	 * @param line raw line (n -> n + 'a')
+	 * @param row raw row (n -> n + 1)
+	 * @param color color of the square
+	 * @param listener listener notified after each change of the contained piece
+	 */
+	public Square(int line, int row, @NotNull Color color, @Nullable SquareListener listener) {
 		this.line = (char) (line + 'a');
 		this.row = 8 - row;
+		this.index = (this.row - 1) * 8 + line;
 		this.color = color;
+		this.listener = listener;
 	}
 
 	/**
@@ -48,7 +69,9 @@ public class Square {
 	 */
 	public boolean putPiece(@Nullable ChessPiece piece) {
 		if ((containedPiece != null) == (piece != null)) return false;
+		var previous = containedPiece;
 		containedPiece = piece;
+		if (listener != null) listener.onPieceChanged(this, previous, piece);
 		return true;
 	}
 
@@ -77,6 +100,14 @@ public class Square {
 		return row;
 	}
 
+	/**
+	 * Gets index of the square (0-63), a1 being 0, h1 being 7 and h8 being 63
+	 * @return index of the square
+	 */
+	public int index() {
+		return index;
+	}
+
 	@Override
 	public String toString() {
 		return String.format("[%c%d]", line, row);
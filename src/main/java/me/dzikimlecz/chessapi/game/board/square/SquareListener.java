@@ -0,0 +1,22 @@
+package me.dzikimlecz.chessapi.game.board.square;
+
+import me.dzikimlecz.chessapi.game.board.pieces.ChessPiece;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Listener notified each time content of a square changes.
+ * @see Square#putPiece(ChessPiece)
+ */
+@FunctionalInterface
+public interface SquareListener {
+	/**
+	 * Called after piece has been put onto the square or removed from it.
+	 * @param square square which content has changed
+	 * @param previous piece lying on the square before the change, {@code null} if it was empty
+	 * @param current piece lying on the square after the change, {@code null} if it's empty now
+	 */
+	void onPieceChanged(@NotNull Square square,
+	                    @Nullable ChessPiece previous,
+	                    @Nullable ChessPiece current);
+}
@@ -1,33 +1,79 @@
 package me.dzikimlecz.chessapi.game.events;
 
-import java.util.regex.Pattern;
+import me.dzikimlecz.chessapi.MoveResult;
+import me.dzikimlecz.chessapi.game.moveparsing.NotationScanner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static me.dzikimlecz.chessapi.game.events.ChessEvent.Type.*;
 
 public class ChessEvent {
-	private static final Pattern movePattern = Pattern.compile(
-			"([PBGSNRWQHK]?([a-h][1-8]){1,2})|([Oo0](-[Oo0]){1,2})"
-	);
-	private static final Pattern closePattern = Pattern.compile(
-			"close"
-	);
-	private static final Pattern drawRequestPattern = Pattern.compile(
-			"(draw)(white)|(black)"
-	);
-
 	private final Type type;
 	private final String notation;
+	private final @Nullable CompletableFuture<MoveResult> result;
+	private final String[] notations;
+	private final @Nullable CompletableFuture<List<MoveResult>> batchResult;
 
 	public ChessEvent(String notation) {
 		this.notation = notation;
-		if (movePattern.matcher(notation).matches()) type = MOVE;
-		else if (closePattern.matcher(notation).matches()) type = CLOSE;
-		else if (drawRequestPattern.matcher(notation).matches()) type = DRAW_REQUEST;
+		this.result = null;
+		this.notations = null;
+		this.batchResult = null;
+		if (NotationScanner.isMove(notation)) type = MOVE;
+		else if (notation.equals("close")) type = CLOSE;
+		else if (isDrawRequest(notation)) type = DRAW_REQUEST;
 		else throw new IllegalArgumentException("Illegal notation");
 	}
 
+	/**
+	 * Creates move event, whose result completes the future once the game processes it.
+	 * @throws IllegalArgumentException if the notation isn't notation of a move
+	 */
+	public ChessEvent(String notation, @NotNull CompletableFuture<MoveResult> result) {
+		if (!NotationScanner.isMove(notation)) throw new IllegalArgumentException("Illegal notation");
+		this.notation = notation;
+		this.type = MOVE;
+		this.result = result;
+		this.notations = null;
+		this.batchResult = null;
+	}
+
+	private ChessEvent(String[] notations, CompletableFuture<List<MoveResult>> batchResult) {
+		this.type = BATCH;
+		this.notation = null;
+		this.result = null;
+		this.notations = notations;
+		this.batchResult = batchResult;
+	}
+
+	/**
+	 * Creates event of moves made back-to-back, whose results complete the future once the game
+	 * processes them.
+	 * @throws IllegalArgumentException if any of the notations isn't notation of a move
+	 */
+	public static ChessEvent batch(@NotNull List<String> notations,
+	                               @NotNull CompletableFuture<List<MoveResult>> result) {
+		var array = notations.toArray(new String[0]);
+		for (int i = 0; i < array.length; i++)
+			if (!NotationScanner.isMove(array[i]))
+				throw new IllegalArgumentException("Illegal notation of move " + i + ": " + array[i]);
+		return new ChessEvent(array, result);
+	}
+
+	/**
+	 * Checks if the notation is {@code drawwhite} or {@code drawblack} (or just {@code black},
+	 * which was accepted by earlier versions).
+	 */
+	private static boolean isDrawRequest(String notation) {
+		return notation.equals("drawwhite") || notation.equals("drawblack")
+				|| notation.equals("black");
+	}
+
 	public enum Type {
-		DRAW_REQUEST, CLOSE, MOVE
+		DRAW_REQUEST, CLOSE, MOVE, BATCH
 	}
 
 
@@ -35,7 +81,40 @@ public class ChessEvent {
 		return type;
 	}
 
+	/**
+	 * Gets notation of the event, null for batches of moves.
+	 * @see #getNotations()
+	 */
 	public String getNotation() {
 		return notation;
 	}
+
+	/**
+	 * Gets notations of moves of a batch, null for other events.
+	 */
+	public String[] getNotations() {
+		return notations;
+	}
+
+	/**
+	 * Completes the future of the event, if it has one.
+	 */
+	public void complete(MoveResult moveResult) {
+		if (result != null) result.complete(moveResult);
+	}
+
+	/**
+	 * Completes the future of the batch.
+	 */
+	public void complete(List<MoveResult> moveResults) {
+		if (batchResult != null) batchResult.complete(moveResults);
+	}
+
+	/**
+	 * Completes the future of the event exceptionally, if it has one.
+	 */
+	public void fail(Throwable cause) {
+		if (result != null) result.completeExceptionally(cause);
+		if (batchResult != null) batchResult.completeExceptionally(cause);
+	}
 }
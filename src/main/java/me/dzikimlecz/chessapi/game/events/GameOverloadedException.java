@@ -0,0 +1,13 @@
+package me.dzikimlecz.chessapi.game.events;
+
+/**
+ * Thrown when an event can't be queued, as the queue of events of the game is full.
+ * @see OverloadPolicy
+ */
+public class GameOverloadedException extends IllegalStateException {
+	private static final long serialVersionUID = 1L;
+
+	public GameOverloadedException(String gameName, int capacity) {
+		super("Queue of events of %s is full (capacity: %d)".formatted(gameName, capacity));
+	}
+}
@@ -0,0 +1,22 @@
+package me.dzikimlecz.chessapi.game.events;
+
+/**
+ * What a game does with an event submitted when its queue of events is full.
+ * @see me.dzikimlecz.chessapi.game.ChessGame.Builder#overloadPolicy(OverloadPolicy)
+ */
+public enum OverloadPolicy {
+	/**
+	 * The event is rejected at once with {@link GameOverloadedException}.
+	 */
+	REJECT,
+	/**
+	 * The submitting thread waits for space in the queue, up to the timeout if one is set. The
+	 * event is rejected with {@link GameOverloadedException} if the timeout passes.
+	 */
+	BLOCK,
+	/**
+	 * The oldest queued events are dropped to make space for the event. Futures of dropped events
+	 * fail with {@link GameOverloadedException}.
+	 */
+	DROP_OLDEST,
+}
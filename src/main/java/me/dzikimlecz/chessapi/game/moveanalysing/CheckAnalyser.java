@@ -2,17 +2,11 @@ package me.dzikimlecz.chessapi.game.moveanalysing;
 
 import me.dzikimlecz.chessapi.game.board.Board;
 import me.dzikimlecz.chessapi.game.board.BoardState;
-import me.dzikimlecz.chessapi.game.board.pieces.ChessPiece;
-import me.dzikimlecz.chessapi.game.board.pieces.King;
-import me.dzikimlecz.chessapi.game.board.pieces.Knight;
-import me.dzikimlecz.chessapi.game.board.pieces.Piece;
-import me.dzikimlecz.chessapi.game.board.square.Square;
+import me.dzikimlecz.chessapi.game.board.Move;
 import me.dzikimlecz.chessapi.game.moveparsing.IMoveValidator;
 import me.dzikimlecz.chessapi.game.movestoring.GameState;
 import me.dzikimlecz.chessapi.game.movestoring.MoveData;
 
-import java.util.stream.Collectors;
-
 public class CheckAnalyser implements IMoveAnalyser {
 	private GameState gameState;
 	private BoardState boardState;
@@ -34,10 +28,10 @@ public class CheckAnalyser implements IMoveAnalyser {
 		this.board = gameState.board();
 		this.boardState = board.getState();
 		if (lookForCheck(data)) {
-			var notation = new StringBuilder(data.notation());
-			notation.setLength(notation.length() - 1);
-			notation.append((lookForMate(data)) ? '#' : '+');
-			data.setNotation(notation.toString());
+			final boolean mate = lookForMate(data);
+			data.setNotation(data.notation() + (mate ? '#' : '+'));
+			if (data.move() != Move.NONE)
+				data.setMove(Move.withFlags(data.move(), mate ? Move.MATE : Move.CHECK));
 		}
 		return data;
 	}
@@ -47,37 +41,6 @@ public class CheckAnalyser implements IMoveAnalyser {
 	}
 
 	private boolean lookForMate(MoveData data) {
-		var color = data.color().opposite();
-		King king = board.getKing(color);
-
-		boolean areCloseSquaresBlocked = king.moveDeltas().stream().allMatch(set -> {
-			var square = board.getSquareByDelta(king.square(), set);
-			return boardState.isSquareOccupied(square, color) ||
-					boardState.isSquareAttacked(square, color);
-		});
-
-		if(!areCloseSquaresBlocked) return false;
-
-		var variations = data.getVariations();
-		var pieces = variations.keySet();
-		if (pieces.stream().noneMatch(e -> e instanceof Knight)) {
-			for (ChessPiece piece : pieces) {
-				if (piece instanceof King) continue;
-				var attackingSquare = variations.get(piece);
-				var squaresBetween = board.squaresBetween(attackingSquare, king.square());
-				for (Square square : squaresBetween) {
-					var possibleResponses =
-							board.getPiecesMovingTo(square, Piece.class, color)
-									.stream()
-									.filter(e -> !(e instanceof King))
-									.collect(Collectors.toMap(e -> e, e -> square, (a, b) -> b));
-					var responsesData = new MoveData("#response", possibleResponses, color);
-					validator.validate(responsesData);
-					if (!responsesData.getVariations().isEmpty()) return false;
-				}
-			}
-		}
-		return true;
+		return !board.hasLegalMove(data.color().opposite());
 	}
-
 }
@@ -11,7 +11,6 @@ import me.dzikimlecz.chessapi.game.movestoring.MoveData;
 import me.dzikimlecz.chessapi.game.movestoring.MoveDatabase;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,8 +24,6 @@ public class DrawAnalyser implements IDrawAnalyser {
 	private GameState gameState;
 	private IMoveValidator validator;
 	private Board board;
-	private List<MoveData> whiteMoves;
-	private List<MoveData> blackMoves;
 
 	@Override
 	public void setMoveDatabase(MoveDatabase moveDatabase) {
@@ -46,8 +43,6 @@ public class DrawAnalyser implements IDrawAnalyser {
 	@Nullable
 	public Optional<DrawReason> lookForDraw() {
 		this.board = gameState.board();
-		whiteMoves = moveDatabase.getAllMoves(WHITE);
-		blackMoves = moveDatabase.getAllMoves(BLACK);
 		if (noMovesWithPawnDuring50Moves()) return Optional.of(DrawReason.FIFTY_MOVES_WITHOUT_PAWN);
 		if (triplePositionRepeat()) return Optional.of(DrawReason.TRIPLE_POSITION_REPEAT);
 		if (staleMate()) return Optional.of(DrawReason.STALE_MATE);
@@ -55,38 +50,13 @@ public class DrawAnalyser implements IDrawAnalyser {
 		return Optional.empty();
 	}
 
-	//fixme 23.12.2020: It's a workaround, checks if three LAST positions were the same based on
-	// move notations, it doesn't fit chess rules and need to be fixed. I didn't have any other
-	// ideas than just store state of the board in MoveDatabase but i guess it would be
-	// memory-consuming. Will be fixed after memory tests and optimization.
 	private boolean triplePositionRepeat() {
-		if (whiteMoves.size() < 4) return false;
-		var whites = whiteMoves.subList(whiteMoves.size() - 3, whiteMoves.size());
-		var blacks = blackMoves.subList(blackMoves.size() - 3, blackMoves.size());
-		return whites.stream().distinct().count() == 1 && blacks.stream().distinct().count() == 1;
+		return moveDatabase.positionCount(board.zobristKey()) >= 3;
 	}
 
 	private boolean staleMate() {
-		if (whiteMoves.size() < 10) return false;
 		Color color = gameState.color();
-		List<ChessPiece> pieces = new ArrayList<>();
-		for (int row = 1; row <= 8; row++) {
-			for (char line = 'a'; line <= 'h'; line++) {
-				var piece = board.square(line, row).piece();
-				if (piece != null && piece.color() == color)
-					pieces.add(piece);
-			}
-		}
-		Map<ChessPiece, Square> possibleResponses = new HashMap<>();
-		for (ChessPiece piece : pieces) {
-			var pieceSquare = board.square(piece.location()[0], piece.location()[1]);
-			if (!(piece instanceof Movable movablePiece)) continue;
-			var moveDeltas = movablePiece.moveDeltas();
-			for (int[] moveDelta : moveDeltas)
-				possibleResponses.put(piece, board.getSquareByDelta(pieceSquare, moveDelta));
-		}
-		var responseData = new MoveData("#stalemate", possibleResponses, color);
-		return validator.validate(responseData).getVariations().isEmpty();
+		return !board.getState().isKingAttacked(color) && !board.hasLegalMove(color);
 	}
 
 	private boolean noMovesWithPawnDuring50Moves() {
@@ -94,17 +64,8 @@ public class DrawAnalyser implements IDrawAnalyser {
 	}
 
 	private boolean deadPosition() {
-		List<ChessPiece> whitePieces = new ArrayList<>();
-		List<ChessPiece> blackPieces = new ArrayList<>();
-		for (int row = 1; row <= 8; row++) {
-			for (char line = 'a'; line <= 'h'; line++) {
-				var piece = board.square(line, row).piece();
-				if (piece != null) {
-					var list = (piece.color() == WHITE) ? whitePieces : blackPieces;
-					list.add(piece);
-				}
-			}
-		}
+		List<ChessPiece> whitePieces = board.pieces(WHITE);
+		List<ChessPiece> blackPieces = board.pieces(BLACK);
 
 		if (anyRooksOrQueens(whitePieces) || anyRooksOrQueens(blackPieces))
 			return false;
@@ -149,10 +110,10 @@ public class DrawAnalyser implements IDrawAnalyser {
 				.map(piece -> (Pawn) piece)
 				.allMatch(pawn -> {
 					Map<Pawn, Square> variations = new HashMap<>();
-					pawn.moveDeltas()
-							.forEach(delta -> variations.put(
-									pawn, board.getSquareByDelta(pawn.square(), delta))
-							);
+					for (int[] delta : pawn.moveDeltas()) {
+						var target = Board.offset(pawn.squareIndex(), delta[0], delta[1]);
+						if (target != Board.NO_SQUARE) variations.put(pawn, board.square(target));
+					}
 					return validator.validate(
 							new MoveData("#deadposition", variations, pawn.color()))
 							.getVariations().isEmpty();
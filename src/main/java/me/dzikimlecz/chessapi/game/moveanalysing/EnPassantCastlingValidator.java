@@ -1,17 +1,21 @@
 package me.dzikimlecz.chessapi.game.moveanalysing;
 
 import me.dzikimlecz.chessapi.game.board.pieces.ChessPiece;
-import me.dzikimlecz.chessapi.game.board.pieces.Pawn;
+import me.dzikimlecz.chessapi.game.board.pieces.King;
 import me.dzikimlecz.chessapi.game.moveparsing.IMoveValidator;
+import me.dzikimlecz.chessapi.game.movestoring.GameState;
 import me.dzikimlecz.chessapi.game.movestoring.MoveData;
-import me.dzikimlecz.chessapi.game.movestoring.MoveDatabase;
 
+/**
+ * Validates castlings and captures en passant against castling rights and en passant target
+ * square kept by the board, so it doesn't have to look through history of the game.
+ */
 public class EnPassantCastlingValidator implements IMoveValidator {
-	private MoveDatabase moveDatabase;
+	private GameState gameState;
 
 	@Override
-	public void setMoveDatabase(MoveDatabase moveDatabase) {
-		this.moveDatabase = moveDatabase;
+	public void setGameState(GameState gameState) {
+		this.gameState = gameState;
 	}
 
 	@Override
@@ -25,34 +29,21 @@ public class EnPassantCastlingValidator implements IMoveValidator {
 	}
 
 	public void validateEnPassant(MoveData data) {
-		var opponentColor = data.color().opposite();
 		var variations = data.getVariations();
-		var lastMove = moveDatabase.getLastMove(opponentColor);
-		var lastMoveVariations = lastMove.getVariations();
-		var lastMovePieces = lastMoveVariations.keySet();
-		if (lastMovePieces.size() != 1 ||
-				variations.size() != 1 ||
-				lastMovePieces.stream().noneMatch(piece -> piece instanceof Pawn)) {
-			variations.clear();
-			return;
-		}
-		var lastMovedPiece = (Pawn) lastMovePieces.stream().findFirst().get();
-		var destinationSquare = variations.get(variations.keySet().stream().findFirst().get());
-		if (lastMovedPiece.movesCount() != 1
-				|| lastMovedPiece.square().line() != destinationSquare.line())
+		if (variations.size() != 1
+				|| variations.values().iterator().next().index() != gameState.enPassantSquare())
 			variations.clear();
 	}
 
 	public void validateCastling(MoveData data) {
-		var moves = moveDatabase.getAllMoves(data.color());
 		var variations = data.getVariations();
-		for (MoveData moveData : moves) {
-			for (ChessPiece piece : variations.keySet()) {
-				if (moveData.getVariations().containsKey(piece)) {
-					variations.clear();
-					return;
-				}
-			}
+		for (ChessPiece piece : variations.keySet()) {
+			if (!(piece instanceof King)) continue;
+			// the king moves towards the h line in the short castling
+			final boolean kingSide = variations.get(piece).index() > piece.squareIndex();
+			if (!gameState.canCastle(kingSide)) variations.clear();
+			return;
 		}
+		variations.clear();
 	}
 }
@@ -1,7 +1,8 @@
 package me.dzikimlecz.chessapi.game.moveanalysing;
 
+import me.dzikimlecz.chessapi.game.board.Bitboards;
 import me.dzikimlecz.chessapi.game.board.Color;
-import me.dzikimlecz.chessapi.game.board.pieces.Pawn;
+import me.dzikimlecz.chessapi.game.board.Move;
 import me.dzikimlecz.chessapi.game.movestoring.GameState;
 import me.dzikimlecz.chessapi.game.movestoring.MoveData;
 
@@ -10,14 +11,10 @@ public class PawnExchangeAnalyser implements IMoveAnalyser {
 
 	@Override
 	public MoveData analyse(MoveData data) {
-		var variations = data.getVariations();
-		var pieces = variations.keySet();
-		if (pieces.size() != 1) return data;
-		var piece = pieces.stream().findFirst().get();
-		var square = variations.get(piece);
-		if (!(piece instanceof Pawn)) return data;
-		int endRow = (piece.color() == Color.WHITE) ? 8 : 1;
-		if (square.row() == endRow) data.setNotation(data.notation() + ":exchange");
+		final int move = data.move();
+		if (move == Move.NONE || Move.piece(move) != Bitboards.PAWN) return data;
+		int endRow = (data.color() == Color.WHITE) ? 8 : 1;
+		if (Bitboards.row(Move.to(move)) == endRow) data.setNotation(data.notation() + ":exchange");
 		return data;
 	}
 }
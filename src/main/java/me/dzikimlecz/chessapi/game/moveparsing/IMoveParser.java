@@ -7,25 +7,35 @@ import java.util.regex.Pattern;
 
 public interface IMoveParser extends IMoveProcessor {
 
-	//patterns
+	/*
+	 * Patterns of notation, left for compatibility. Notation is classified by NotationScanner,
+	 * which does it in a single pass without allocations.
+	 */
+	@Deprecated
 	Pattern simplePawnMove = Pattern.compile(
 			"[a-h][1-8]"
 	);
+	@Deprecated
 	Pattern simplePieceMove = Pattern.compile(
 			"[PNSBGRWQHK][a-h][1-8]"
 	);
+	@Deprecated
 	Pattern pawnMove = Pattern.compile(
 			"[a-h1-8][a-h][1-8]"
 	);
+	@Deprecated
 	Pattern pieceMove = Pattern.compile(
 			"[PNSBGRWQHK][a-h1-8][a-h][1-8]"
 	);
+	@Deprecated
 	Pattern specifiedPawnMove = Pattern.compile(
 			"[a-h][1-8][a-h][1-8]"
 	);
+	@Deprecated
 	Pattern specifiedPieceMove = Pattern.compile(
 			"[PNSBGRWQHK][a-h][1-8][a-h][1-8]"
 	);
+	@Deprecated
 	Pattern castling = Pattern.compile(
 			"[Oo0](-[Oo0]){1,2}"
 	);
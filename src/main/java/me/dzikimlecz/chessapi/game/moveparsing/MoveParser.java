@@ -1,144 +1,91 @@
 package me.dzikimlecz.chessapi.game.moveparsing;
 
+import me.dzikimlecz.chessapi.game.board.Bitboards;
 import me.dzikimlecz.chessapi.game.board.square.Square;
 import me.dzikimlecz.chessapi.game.board.pieces.*;
 import me.dzikimlecz.chessapi.game.board.Color;
 import me.dzikimlecz.chessapi.game.board.Board;
 import me.dzikimlecz.chessapi.game.movestoring.GameState;
 import me.dzikimlecz.chessapi.game.movestoring.MoveData;
-import org.jetbrains.annotations.NotNull;
 
-import java.text.MessageFormat;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+
+import static me.dzikimlecz.chessapi.game.moveparsing.NotationScanner.*;
 
 public class MoveParser implements IMoveParser {
 
 	private GameState gameState;
 
 	private Board board;
-	private IllegalArgumentException illegalMove;
 
 	@Override
 	public void setGameState(GameState gameState) {
 		this.gameState = gameState;
 	}
 
+	/**
+	 * Parses the notation into data of the move with all pieces which could make it. Invalid
+	 * notation results in data without any pieces, as well as an impossible move.
+	 * @see NotationScanner
+	 */
 	@Override
 	public MoveData parse(String notation) {
 		board = gameState.board();
 		Color color = gameState.color();
-		var variations = parseToMap(notation, color);
-		return new MoveData(notation, variations, color);
+		final int descriptor = scan(notation);
+		if (descriptor < 0) return new MoveData(notation, Map.of(), color);
+		var variations = is(descriptor, CASTLING)
+				? parseCastling(is(descriptor, LONG_CASTLING), color)
+				: parseMove(descriptor, color);
+		return new MoveData(storedNotation(notation, descriptor), variations, color);
 	}
 
-
-	private Map<? extends ChessPiece, Square> parseToMap(String notation, Color color) {
-		illegalMove = new IllegalArgumentException(MessageFormat.format(
-				"{0} is not valid move notation for {1}",
-				notation, color.toString().toLowerCase())
-		);
-		if (simplePawnMove.matcher(notation).matches())
-			return parseSimplePawnMove(notation, color);
-		if (simplePieceMove.matcher(notation).matches())
-			return parseSimplePieceMove(notation, color);
-		if (pawnMove.matcher(notation).matches())
-			return parsePawnMove(notation, color);
-		if (pieceMove.matcher(notation).matches())
-			return parsePieceMove(notation, color);
-		if (specifiedPawnMove.matcher(notation).matches())
-			return parseSpecifiedPawnMove(notation, color);
-		if (specifiedPieceMove.matcher(notation).matches())
-			return parseSpecifiedPieceMove(notation, color);
-		if (castling.matcher(notation).matches())
-			return parseCastling(notation, color);
-		throw illegalMove;
+	/**
+	 * Removes capture and check markers, as they are added to stored notation after the move is
+	 * made, if it actually was a capture or a check.
+	 */
+	private static String storedNotation(String notation, int descriptor) {
+		if (!is(descriptor, CAPTURE | CHECK | MATE)) return notation;
+		var builder = new StringBuilder(notation.length());
+		for (int i = 0; i < notation.length(); i++) {
+			final char aChar = notation.charAt(i);
+			if (aChar != 'x' && aChar != ':' && aChar != '+' && aChar != '#') builder.append(aChar);
+		}
+		return builder.toString();
 	}
 
-	private Map<Piece, Square> parseCastling(String notation, Color color) {
-		boolean isCastlingShort = notation.length() == 3;
+	private Map<Piece, Square> parseCastling(boolean isCastlingLong, Color color) {
 		final int row = (color == Color.WHITE) ? 1 : 8;
 		var piece = board.square('e', row).piece();
-		if (!(piece instanceof King king)) throw illegalMove;
+		if (!(piece instanceof King king)) return Map.of();
 
-		char rookLine = (isCastlingShort) ? 'h' : 'a';
+		char rookLine = (isCastlingLong) ? 'a' : 'h';
 		piece = board.square(rookLine, row).piece();
-		if (!(piece instanceof Rook rook)) throw illegalMove;
+		if (!(piece instanceof Rook rook)) return Map.of();
 
-		char newKingLine = (isCastlingShort) ? 'g' : 'c';
-		char newRookLine = (isCastlingShort) ? 'f' : 'd';
+		char newKingLine = (isCastlingLong) ? 'c' : 'g';
+		char newRookLine = (isCastlingLong) ? 'd' : 'f';
 		return Map.of(
 				king, board.square(newKingLine, row),
 				rook, board.square(newRookLine, row)
 		);
 	}
 
-	private Map<ChessPiece, Square> parseSimplePawnMove(String notation, Color color) {
-		return parseSimplePieceMove('P' + notation, color);
-	}
-
-	private Map<ChessPiece, Square> parseSimplePieceMove(String notation, Color color) {
-		Map<ChessPiece, Square> moves = new HashMap<>();
-		char line = notation.charAt(1);
-		//row is an integer, needs to be converted from char
-		int row = notation.charAt(2) - '0';
+	private Map<ChessPiece, Square> parseMove(int descriptor, Color color) {
+		final char line = toLine(descriptor);
+		final int row = toRow(descriptor);
+		final char fromLine = fromLine(descriptor);
+		final int fromRow = fromRow(descriptor);
 		var square = board.square(line, row);
-		var pieceType = getPieceType(notation);
-		board.getPiecesMovingTo(line, row, pieceType, color).forEach(e -> moves.put(e, square));
+		var pieceType = Bitboards.type(pieceType(descriptor));
+		Map<ChessPiece, Square> moves = new HashMap<>();
+		for (var piece : board.getPiecesMovingTo(square, pieceType, color)) {
+			final int index = piece.squareIndex();
+			if (fromLine != 0 && Bitboards.line(index) != fromLine) continue;
+			if (fromRow != 0 && Bitboards.row(index) != fromRow) continue;
+			moves.put(piece, square);
+		}
 		return moves;
 	}
-
-	private Map<ChessPiece, Square> parsePawnMove(String notation, Color color) {
-		return parsePieceMove("P" + notation, color);
-	}
-
-	private Map<ChessPiece, Square> parsePieceMove(String notation, Color color) {
-		char endLine = notation.charAt(1);
-		int endRow = notation.charAt(2) - '0';
-		char startSpecifier = notation.charAt(0);
-		boolean lookingForRow = Character.isDigit(startSpecifier);
-		char startLine = (lookingForRow) ? endLine : startSpecifier;
-		int startRow = (lookingForRow) ? startSpecifier - '0' : endRow;
-		var pieceType = getPieceType(notation);
-		List<ChessPiece> pieces = board.getPiecesMovingTo(endLine, endRow, pieceType,
-		                                                          color);
-		Square destination = board.square(endLine, endRow);
-		return pieces.stream().filter(e -> {
-			char[] location = e.location();
-			return location[0] == startLine && location[1] == startRow;
-		}).collect(Collectors.toUnmodifiableMap(e -> e, e -> destination, (a, b) -> b));
-	}
-
-	private Map<ChessPiece, Square> parseSpecifiedPawnMove(String notation, Color color) {
-		return parseSpecifiedPieceMove('P' + notation, color);
-	}
-
-	private Map<ChessPiece, Square> parseSpecifiedPieceMove(String notation, Color color) {
-		final var pieceType = getPieceType(notation);
-		final char startLine = notation.charAt(1);
-		final int startRow = notation.charAt(2) - '0';
-		final char endLine = notation.charAt(3);
-		final int endRow = notation.charAt(4) - '0';
-		final var startSquare = board.square(startLine, startRow);
-		final var endSquare = board.square(endLine, endRow);
-		var piece = startSquare.piece();
-		if (piece == null || piece.getClass() != pieceType || piece.color() != color)
-			return Map.of();
-		return Map.of(piece, endSquare);
-	}
-
-	@NotNull
-	private Class<? extends Piece> getPieceType(String notation) {
-		return switch (notation.charAt(0)) {
-			case 'P' -> Pawn.class;
-			case 'N', 'S' -> Knight.class;
-			case 'B', 'G' -> Bishop.class;
-			case 'R', 'W' -> Rook.class;
-			case 'Q', 'H' -> Queen.class;
-			case 'K' -> King.class;
-			default -> throw new IllegalStateException("Unexpected value: " + notation.charAt(0));
-		};
-	}
 }
@@ -1,7 +1,9 @@
 package me.dzikimlecz.chessapi.game.moveparsing;
 
+import me.dzikimlecz.chessapi.game.board.Bitboards;
 import me.dzikimlecz.chessapi.game.board.Board;
 import me.dzikimlecz.chessapi.game.board.BoardState;
+import me.dzikimlecz.chessapi.game.board.CheckInfo;
 import me.dzikimlecz.chessapi.game.board.pieces.*;
 import me.dzikimlecz.chessapi.game.board.Color;
 import me.dzikimlecz.chessapi.game.board.square.Square;
@@ -18,6 +20,7 @@ public class MoveValidator implements IMoveValidator {
 	private Board board;
 	private Color color;
 	private BoardState boardState;
+	private CheckInfo checkInfo;
 
 	@Override
 	public void setGameState(GameState gameState) {
@@ -29,6 +32,7 @@ public class MoveValidator implements IMoveValidator {
 		board = gameState.board();
 		color = gameState.color();
 		boardState = board.getState();
+		checkInfo = board.checkInfo(color);
 		var moveVariations = moveData.getVariations();
 
 		if (moveData.doingCastling()) return validateCastling(moveData);
@@ -44,6 +48,8 @@ public class MoveValidator implements IMoveValidator {
 		boolean ambiguous = values.stream()
 				.anyMatch(square -> values.indexOf(square) != values.lastIndexOf(square));
 		if (ambiguous) moveVariations.clear();
+		// resolves the packed move while the pieces are still on their squares
+		else moveData.move();
 		return moveData;
 	}
 
@@ -51,20 +57,23 @@ public class MoveValidator implements IMoveValidator {
 
 		if (boardState.isSquareOccupied(square, color)) return INVALID;
 
-		if (!(piece instanceof Knight)
-				&& boardState.anyPiecesBetween(
-						board.square(piece.location()[0], piece.location()[1]), square))
-			return INVALID;
-
-		if (!(piece instanceof King) && (boardState.isPieceDefendingKing(piece) ||
-				boardState.isKingAttacked(color))) return INVALID;
+		final int from = piece.squareIndex();
+		final int to = square.index();
+		// empty for knights' moves, as their squares never lie on the same row, line nor diagonal
+		if ((Bitboards.between(from, to) & board.occupancy()) != 0) return INVALID;
 
-		if (piece instanceof Pawn) return validatePawnMove((Pawn) piece, square);
+		if (piece instanceof King) return boardState.isSquareAttacked(square, color) ? INVALID : VALID;
 
-		if (piece instanceof King
-				&& boardState.isSquareAttacked(square, color))  return INVALID;
+		if (piece instanceof Pawn) {
+			var status = validatePawnMove((Pawn) piece, square);
+			// capture en passant may take the checking pawn or expose the King along the row
+			if (status == CHECK && to == board.enPassantSquare())
+				return checkInfo.allowsEnPassant(from, to) ? CHECK : INVALID;
+			if (status == INVALID || !checkInfo.allows(from, to)) return INVALID;
+			return status;
+		}
 
-		return VALID;
+		return checkInfo.allows(from, to) ? VALID : INVALID;
 	}
 
 	private ValidationResult validatePawnMove(Pawn pawn, Square square) {
@@ -100,7 +109,7 @@ public class MoveValidator implements IMoveValidator {
 		var rookSquare = rook.square();
 		boolean invalid = board.squaresBetween(kingSquare, map.get(king), true)
 				.stream().anyMatch(square -> boardState.isSquareAttacked(square, color))
-				|| boardState.anyPiecesBetween(kingSquare, rookSquare);
+				|| (Bitboards.between(kingSquare.index(), rookSquare.index()) & board.occupancy()) != 0;
 		if (invalid) map.clear();
 		else moveData.setToFurtherCheck(true);
 		return moveData;
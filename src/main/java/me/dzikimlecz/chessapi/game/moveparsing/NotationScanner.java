@@ -0,0 +1,225 @@
+package me.dzikimlecz.chessapi.game.moveparsing;
+
+import me.dzikimlecz.chessapi.game.board.Bitboards;
+
+/**
+ * Single pass scanner of move notation. Classifies and decodes short and long algebraic notation
+ * into a descriptor packed into a non-negative int, or returns a negative error code, so scanning
+ * doesn't allocate anything.
+ * <br>Accepted notation: optional piece letter (English or Polish: {@code PNSBGRWQHK}), optional
+ * starting line, row or square, optional separator ({@code x}, {@code :} or {@code -}), target
+ * square and optional {@code +} or {@code #}, e.g. {@code e4}, {@code Nbd7}, {@code exd5},
+ * {@code e2-e4}, {@code Qh4#}. Castling is written as {@code O-O} or {@code O-O-O} (also with
+ * {@code o} or {@code 0}).
+ * <br>Descriptor layout:
+ * <ul>
+ *     <li>bits 0-2 - type index of the moved piece,</li>
+ *     <li>bits 3-6 - starting line + 1 (0 if not specified),</li>
+ *     <li>bits 7-10 - starting row (0 if not specified),</li>
+ *     <li>bits 11-13 - target line,</li>
+ *     <li>bits 14-16 - target row - 1,</li>
+ *     <li>bits 17-21 - flags ({@link #CAPTURE}, {@link #CHECK}, {@link #MATE}, {@link #CASTLING},
+ *     {@link #LONG_CASTLING}).</li>
+ * </ul>
+ * @see Bitboards#typeIndex(Class)
+ */
+public final class NotationScanner {
+	/*
+	 * Flags of descriptors.
+	 */
+	public static final int CAPTURE = 1 << 17;
+	public static final int CHECK = 1 << 18;
+	public static final int MATE = 1 << 19;
+	public static final int CASTLING = 1 << 20;
+	public static final int LONG_CASTLING = 1 << 21;
+
+	/*
+	 * Error codes.
+	 */
+	public static final int EMPTY = -1;
+	public static final int UNEXPECTED_CHARACTER = -2;
+	public static final int INCOMPLETE = -3;
+	public static final int TOO_LONG = -4;
+
+	private NotationScanner() {}
+
+	/**
+	 * Scans the notation.
+	 * @param notation notation of a move
+	 * @return packed descriptor of the move or negative error code
+	 */
+	public static int scan(CharSequence notation) {
+		int end = notation.length();
+		if (end == 0) return EMPTY;
+		int flags = 0;
+		switch (notation.charAt(end - 1)) {
+			case '+' -> {
+				flags = CHECK;
+				end--;
+			}
+			case '#' -> {
+				flags = MATE;
+				end--;
+			}
+		}
+		if (end == 0) return INCOMPLETE;
+		if (isCastlingSymbol(notation.charAt(0))) return scanCastling(notation, end, flags);
+
+		int i = 0;
+		int typeIndex = pieceType(notation.charAt(0));
+		if (typeIndex >= 0) i++;
+		else typeIndex = Bitboards.PAWN;
+		// up to 4 coordinates (starting square and target square), last 2 are the target
+		int coordinates = 0;
+		int count = 0;
+		int separatorPosition = -1;
+		for (; i < end; i++) {
+			final char aChar = notation.charAt(i);
+			if (aChar == 'x' || aChar == ':' || aChar == '-') {
+				if (separatorPosition >= 0) return UNEXPECTED_CHARACTER;
+				separatorPosition = count;
+				if (aChar != '-') flags |= CAPTURE;
+			} else if (isLine(aChar) || isRow(aChar)) {
+				if (count == 4) return TOO_LONG;
+				coordinates = (coordinates << 8) | aChar;
+				count++;
+			} else return UNEXPECTED_CHARACTER;
+		}
+		if (count < 2) return INCOMPLETE;
+		if (separatorPosition > count - 2) return INCOMPLETE;
+
+		final char toLine = (char) ((coordinates >>> 8) & 0xFF);
+		final char toRow = (char) (coordinates & 0xFF);
+		if (!isLine(toLine) || !isRow(toRow)) return UNEXPECTED_CHARACTER;
+		int fromLine = 0;
+		int fromRow = 0;
+		if (count == 3) {
+			final char specifier = (char) (coordinates >>> 16);
+			if (isLine(specifier)) fromLine = specifier - 'a' + 1;
+			else fromRow = specifier - '0';
+		} else if (count == 4) {
+			final char line = (char) (coordinates >>> 24);
+			final char row = (char) ((coordinates >>> 16) & 0xFF);
+			if (!isLine(line) || !isRow(row)) return UNEXPECTED_CHARACTER;
+			fromLine = line - 'a' + 1;
+			fromRow = row - '0';
+		}
+		// separator may only stand directly after the piece or the starting coordinates
+		if (separatorPosition >= 0 && separatorPosition != count - 2) return UNEXPECTED_CHARACTER;
+		return typeIndex | (fromLine << 3) | (fromRow << 7)
+				| ((toLine - 'a') << 11) | ((toRow - '1') << 14) | flags;
+	}
+
+	private static int scanCastling(CharSequence notation, int end, int flags) {
+		// symbols stand on even positions, hyphens on odd ones
+		if (end != 3 && end != 5) return (end < 3) ? INCOMPLETE : UNEXPECTED_CHARACTER;
+		for (int i = 1; i < end; i++) {
+			final char aChar = notation.charAt(i);
+			if ((i % 2 == 1) ? aChar != '-' : !isCastlingSymbol(aChar)) return UNEXPECTED_CHARACTER;
+		}
+		flags |= CASTLING;
+		if (end == 5) flags |= LONG_CASTLING;
+		return Bitboards.KING | flags;
+	}
+
+	/**
+	 * Checks if the notation is a valid notation of a move.
+	 */
+	public static boolean isMove(CharSequence notation) {
+		return scan(notation) >= 0;
+	}
+
+	/**
+	 * Checks if the notation is a valid notation of castling.
+	 */
+	public static boolean isCastling(CharSequence notation) {
+		final int descriptor = scan(notation);
+		return descriptor >= 0 && is(descriptor, CASTLING);
+	}
+
+	/**
+	 * Gets type index of the moved piece.
+	 */
+	public static int pieceType(int descriptor) {
+		return descriptor & 7;
+	}
+
+	/**
+	 * Gets the starting line ({@code 'a'}-{@code 'h'}), if specified.
+	 * @return line or {@code 0} if not specified
+	 */
+	public static char fromLine(int descriptor) {
+		final int line = (descriptor >>> 3) & 15;
+		return (line == 0) ? 0 : (char) ('a' + line - 1);
+	}
+
+	/**
+	 * Gets the starting row (1-8), if specified.
+	 * @return row or {@code 0} if not specified
+	 */
+	public static int fromRow(int descriptor) {
+		return (descriptor >>> 7) & 15;
+	}
+
+	/**
+	 * Gets the target line ({@code 'a'}-{@code 'h'}).
+	 */
+	public static char toLine(int descriptor) {
+		return (char) ('a' + ((descriptor >>> 11) & 7));
+	}
+
+	/**
+	 * Gets the target row (1-8).
+	 */
+	public static int toRow(int descriptor) {
+		return ((descriptor >>> 14) & 7) + 1;
+	}
+
+	/**
+	 * Checks if the descriptor has the flag.
+	 */
+	public static boolean is(int descriptor, int flag) {
+		return (descriptor & flag) != 0;
+	}
+
+	/**
+	 * Gets description of the error code.
+	 */
+	public static String errorMessage(int code) {
+		return switch (code) {
+			case EMPTY -> "Empty notation";
+			case UNEXPECTED_CHARACTER -> "Unexpected character";
+			case INCOMPLETE -> "Incomplete notation";
+			case TOO_LONG -> "Too many coordinates";
+			default -> "No error";
+		};
+	}
+
+	/**
+	 * Gets type index of the piece of the letter.
+	 * @return type index or -1 if the character isn't a letter of a piece
+	 */
+	private static int pieceType(char aChar) {
+		return switch (aChar) {
+			case 'P' -> Bitboards.PAWN;
+			case 'N', 'S' -> Bitboards.KNIGHT;
+			case 'B', 'G' -> Bitboards.BISHOP;
+			case 'R', 'W' -> Bitboards.ROOK;
+			case 'Q', 'H' -> Bitboards.QUEEN;
+			case 'K' -> Bitboards.KING;
+			default -> -1;
+		};
+	}
+
+	private static boolean isLine(char aChar) {
+		return aChar >= 'a' && aChar <= 'h';
+	}
+
+	private static boolean isRow(char aChar) {
+		return aChar >= '1' && aChar <= '8';
+	}
+
+	private static boolean isCastlingSymbol(char aChar) {
+		return aChar == 'O' || aChar == 'o' || aChar == '0';
+	}
+}
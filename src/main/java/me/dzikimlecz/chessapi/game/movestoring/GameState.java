@@ -22,4 +22,32 @@ public class GameState {
 	public Color color() {
 		return color;
 	}
+
+	/**
+	 * Gets castling rights of both players, updated by the board with each move.
+	 * @see Board#castlingRights()
+	 */
+	public int castlingRights() {
+		return board.castlingRights();
+	}
+
+	/**
+	 * Checks if the player whose turn it is may still castle on the specified side.
+	 * @param kingSide true for the short castling, false for the long one
+	 */
+	public boolean canCastle(boolean kingSide) {
+		final int right = (color == Color.WHITE)
+				? (kingSide ? Board.WHITE_SHORT_CASTLING : Board.WHITE_LONG_CASTLING)
+				: (kingSide ? Board.BLACK_SHORT_CASTLING : Board.BLACK_LONG_CASTLING);
+		return (board.castlingRights() & right) != 0;
+	}
+
+	/**
+	 * Gets en passant target square of the current position.
+	 * @return index of the square or {@link Board#NO_SQUARE}
+	 * @see Board#enPassantSquare()
+	 */
+	public int enPassantSquare() {
+		return board.enPassantSquare();
+	}
 }
@@ -1,9 +1,11 @@
 package me.dzikimlecz.chessapi.game.movestoring;
 
-import me.dzikimlecz.chessapi.game.board.pieces.Pawn;
+import me.dzikimlecz.chessapi.game.board.Bitboards;
 import me.dzikimlecz.chessapi.game.board.Color;
+import me.dzikimlecz.chessapi.game.board.Move;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -17,11 +19,19 @@ public class ListMoveDatabase implements MoveDatabase {
 	private final List<MoveData> blackMoves;
 	private Color turnColor;
 	private int movesWithoutPawnCount;
+	/**
+	 * Packed moves of both players, in order of making them.
+	 */
+	private int[] moves;
+	private int movesCount;
+	private final PositionHistory positions;
 
 	public ListMoveDatabase() {
 		turnColor = WHITE;
 		whiteMoves = new ArrayList<>();
 		blackMoves = new ArrayList<>();
+		positions = new PositionHistory();
+		moves = new int[64];
 	}
 
 	@Override
@@ -73,13 +83,36 @@ public class ListMoveDatabase implements MoveDatabase {
 		List<MoveData> list = (turnColor == WHITE) ? whiteMoves : blackMoves;
 		list.add(data);
 		turnColor = turnColor.opposite();
-		if (data.getVariations().keySet().stream().anyMatch(e -> e instanceof Pawn))
-			movesWithoutPawnCount = 0;
+		final int move = data.move();
+		if (movesCount == moves.length) moves = Arrays.copyOf(moves, movesCount * 2);
+		moves[movesCount++] = move;
+		if (Move.piece(move) == Bitboards.PAWN) movesWithoutPawnCount = 0;
 		else movesWithoutPawnCount++;
 	}
 
+	@Override
+	public int movesCount() {
+		return movesCount;
+	}
+
+	@Override
+	public int move(int ply) {
+		if (ply < 0 || ply >= movesCount) throw new IndexOutOfBoundsException(ply);
+		return moves[ply];
+	}
+
 	@Override
 	public int movesWithoutPawnCount() {
 		return movesWithoutPawnCount;
 	}
+
+	@Override
+	public void putPosition(long positionKey, boolean irreversible) {
+		positions.put(positionKey, irreversible);
+	}
+
+	@Override
+	public int positionCount(long positionKey) {
+		return positions.count(positionKey);
+	}
 }
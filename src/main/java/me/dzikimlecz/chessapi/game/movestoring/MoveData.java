@@ -1,33 +1,61 @@
 package me.dzikimlecz.chessapi.game.movestoring;
 
+import me.dzikimlecz.chessapi.game.board.Bitboards;
+import me.dzikimlecz.chessapi.game.board.Move;
 import me.dzikimlecz.chessapi.game.board.pieces.ChessPiece;
+import me.dzikimlecz.chessapi.game.board.pieces.King;
 import me.dzikimlecz.chessapi.game.board.pieces.Movable;
+import me.dzikimlecz.chessapi.game.board.pieces.Pawn;
 import me.dzikimlecz.chessapi.game.board.square.Square;
-import me.dzikimlecz.chessapi.game.moveparsing.IMoveParser;
+import me.dzikimlecz.chessapi.game.moveparsing.NotationScanner;
 import me.dzikimlecz.chessapi.game.moveparsing.IMoveValidator;
 import me.dzikimlecz.chessapi.game.moveanalysing.IMoveAnalyser;
+import me.dzikimlecz.chessapi.game.board.Board;
 import me.dzikimlecz.chessapi.game.board.Color;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Data of a move processed by a game. Until the move is resolved it holds all pieces, which
+ * could make it (its variations). The resolved move is described by a packed int, which is what
+ * the game, its analysers and move database work with, so this class serves mostly as an adapter
+ * for processors working with pieces and squares.
+ * @see Move
+ */
 public class MoveData {
 	private String notation;
 	private final Map<ChessPiece, Square> variations;
 	private final Color color;
 	private boolean toFurtherCheck;
 	private final boolean doingCastling;
+	private int move;
 
 	public MoveData(String notation, Map<? extends ChessPiece, Square> variations, Color color) {
 		this.notation = notation;
-		this.doingCastling = IMoveParser.castling.matcher(notation).matches();
-		if (variations.keySet().stream().anyMatch(piece -> !(piece instanceof Movable)))
-			throw new IllegalArgumentException("Can't put non-movable piece to move data");
+		this.doingCastling = NotationScanner.isCastling(notation);
+		for (ChessPiece piece : variations.keySet())
+			if (!(piece instanceof Movable))
+				throw new IllegalArgumentException("Can't put non-movable piece to move data");
 		this.variations = new HashMap<>(variations);
 		this.color = color;
 	}
 
+	/**
+	 * Creates data of a resolved move, without variations.
+	 * @param notation notation of the move
+	 * @param move packed move
+	 * @param color color of the player, who made the move
+	 */
+	public MoveData(String notation, int move, Color color) {
+		this.notation = notation;
+		this.doingCastling = Move.is(move, Move.CASTLING);
+		this.variations = new HashMap<>(2);
+		this.color = color;
+		this.move = move;
+	}
+
 	public boolean isDoingCastling() {
 		return doingCastling;
 	}
@@ -64,8 +92,59 @@ public class MoveData {
 		return color;
 	}
 
+	/**
+	 * Gets the packed move. If it isn't set yet, it's encoded from the variations, if they
+	 * unambiguously describe a single move (a single piece or the king and the rook in castling).
+	 * Must be called before the move is made, as it reads pieces from the target squares.
+	 * @return packed move or {@link Move#NONE} if the move isn't resolved
+	 * @see Move
+	 */
+	public int move() {
+		if (move == Move.NONE) move = encode();
+		return move;
+	}
+
+	/**
+	 * Sets the packed move.
+	 * @see Move
+	 */
+	public void setMove(int move) {
+		this.move = move;
+	}
+
+	private int encode() {
+		ChessPiece piece = null;
+		for (ChessPiece candidate : variations.keySet()) {
+			// in castling only move of the king is encoded
+			if (variations.size() == 2 && doingCastling && !(candidate instanceof King)) continue;
+			if (piece != null) return Move.NONE;
+			piece = candidate;
+		}
+		if (piece == null) return Move.NONE;
+		var target = variations.get(piece);
+		final int from = piece.squareIndex();
+		final int to = target.index();
+		if (from == Board.NO_SQUARE) return Move.NONE;
+		int flags = 0;
+		int captured = -1;
+		var targetPiece = target.piece();
+		if (targetPiece != null) {
+			flags |= Move.CAPTURE;
+			captured = Bitboards.typeIndex(targetPiece);
+		} else if (piece instanceof Pawn && (from & 7) != (to & 7)) {
+			flags |= Move.CAPTURE | Move.EN_PASSANT;
+			captured = Bitboards.PAWN;
+		}
+		if (piece instanceof Pawn && Math.abs(to - from) == 16) flags |= Move.DOUBLE_PUSH;
+		if (piece instanceof King && Math.abs(to - from) == 2) flags |= Move.CASTLING;
+		int move = Move.withPiece(Move.of(from, to, flags), Bitboards.typeIndex(piece));
+		return (captured >= 0) ? Move.withCaptured(move, captured) : move;
+	}
+
 	public static MoveData copyOf(MoveData toCopy) {
-		return new MoveData(toCopy.notation, toCopy.variations, toCopy.color);
+		var copy = new MoveData(toCopy.notation, toCopy.variations, toCopy.color);
+		copy.move = toCopy.move;
+		return copy;
 	}
 
 	@Override
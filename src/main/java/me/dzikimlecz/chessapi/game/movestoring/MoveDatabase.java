@@ -18,4 +18,58 @@ public interface MoveDatabase {
 
 	void put(MoveData data);
 	int movesWithoutPawnCount();
+
+	/**
+	 * Gets count of moves of both players stored in the database.
+	 */
+	default int movesCount() {
+		int count = 0;
+		for (MoveData[] line : getAllMoves()) count += (line[1] == null) ? 1 : 2;
+		return count;
+	}
+
+	/**
+	 * Gets packed move made in the specified ply.
+	 * @param ply index of the move, counting moves of both players from 0 (first move of white)
+	 * @return packed move
+	 * @see me.dzikimlecz.chessapi.game.board.Move
+	 */
+	default int move(int ply) {
+		var line = getAllMoves().get(ply / 2);
+		if (line[ply % 2] == null) throw new IndexOutOfBoundsException(ply);
+		return line[ply % 2].move();
+	}
+
+	/**
+	 * Gets read-only view of packed moves of both players.
+	 */
+	default MovesView moves() {
+		return new MovesView(this, null);
+	}
+
+	/**
+	 * Gets read-only view of packed moves of the player.
+	 * @param color color of the player
+	 */
+	default MovesView moves(Color color) {
+		return new MovesView(this, color);
+	}
+
+	/**
+	 * Stores hash of the position reached on the board.
+	 * @param positionKey Zobrist hash of the position
+	 * @param irreversible if the position was reached by a move which can't be reverted (capture,
+	 * move of a pawn or loss of castling rights), so none of earlier positions can repeat
+	 * @see me.dzikimlecz.chessapi.game.board.Board#zobristKey()
+	 */
+	default void putPosition(long positionKey, boolean irreversible) {}
+
+	/**
+	 * Counts occurrences of the position since the last irreversible move.
+	 * @param positionKey Zobrist hash of the position
+	 * @return count of stored positions of the hash, 0 if the database doesn't store positions
+	 */
+	default int positionCount(long positionKey) {
+		return 0;
+	}
 }
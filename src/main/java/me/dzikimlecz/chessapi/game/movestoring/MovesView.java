@@ -0,0 +1,88 @@
+package me.dzikimlecz.chessapi.game.movestoring;
+
+import me.dzikimlecz.chessapi.game.board.Color;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only view of packed moves stored in a move database, of both players or of one of them.
+ * Nothing is copied - the view reads the database, so it reflects moves put after its creation.
+ * @see MoveDatabase#moves()
+ * @see MoveDatabase#moves(Color)
+ * @see me.dzikimlecz.chessapi.game.board.Move
+ */
+public final class MovesView implements Iterable<Integer> {
+	private final MoveDatabase database;
+	private final int first;
+	private final int step;
+
+	/**
+	 * @param database viewed database
+	 * @param color color of the player, whose moves are viewed or null for moves of both players
+	 */
+	MovesView(@NotNull MoveDatabase database, @Nullable Color color) {
+		this.database = database;
+		this.first = (color == null) ? 0 : color.ordinal();
+		this.step = (color == null) ? 1 : 2;
+	}
+
+	public int size() {
+		final int count = database.movesCount();
+		return (count <= first) ? 0 : (count - first + step - 1) / step;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Gets packed move of the specified position in the view.
+	 */
+	public int get(int i) {
+		if (i < 0 || i >= size()) throw new IndexOutOfBoundsException(i);
+		return database.move(first + i * step);
+	}
+
+	/**
+	 * Gets the last packed move of the view.
+	 * @throws NoSuchElementException if the view is empty
+	 */
+	public int last() {
+		final int size = size();
+		if (size == 0) throw new NoSuchElementException("No moves");
+		return get(size - 1);
+	}
+
+	@Override public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int i;
+			private final int size = size();
+
+			@Override public boolean hasNext() {
+				return i < size;
+			}
+
+			@Override public int nextInt() {
+				if (!hasNext()) throw new NoSuchElementException();
+				return get(i++);
+			}
+		};
+	}
+
+	/**
+	 * Performs the action for each packed move, without boxing.
+	 */
+	public void forEachMove(IntConsumer action) {
+		final int size = size();
+		for (int i = 0; i < size; i++) action.accept(get(i));
+	}
+
+	public IntStream stream() {
+		return IntStream.range(0, size()).map(this::get);
+	}
+}
@@ -0,0 +1,138 @@
+package me.dzikimlecz.chessapi.game.movestoring;
+
+import me.dzikimlecz.chessapi.game.board.Bitboards;
+import me.dzikimlecz.chessapi.game.board.Color;
+import me.dzikimlecz.chessapi.game.board.Move;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static me.dzikimlecz.chessapi.game.board.Color.BLACK;
+import static me.dzikimlecz.chessapi.game.board.Color.WHITE;
+
+/**
+ * Database keeping moves as packed ints in a growable array (and their notations), so storing a
+ * move doesn't keep its {@link MoveData} and reading history doesn't copy anything.
+ * {@link MoveData} objects returned by it are adapters created on demand, describing the move
+ * only by its packed form and notation (without variations).
+ * @see #moves(Color)
+ * @see Move
+ */
+public class PackedMoveDatabase implements MoveDatabase {
+	private int[] moves;
+	private String[] notations;
+	private int size;
+	private int movesWithoutPawnCount;
+	private final PositionHistory positions;
+
+	public PackedMoveDatabase() {
+		moves = new int[64];
+		notations = new String[64];
+		positions = new PositionHistory();
+	}
+
+	/**
+	 * Stores the move of the player whose turn it is.
+	 * @param move packed move
+	 * @param notation notation of the move
+	 */
+	public void put(int move, @NotNull String notation) {
+		if (size == moves.length) {
+			moves = Arrays.copyOf(moves, size * 2);
+			notations = Arrays.copyOf(notations, size * 2);
+		}
+		moves[size] = move;
+		notations[size++] = notation;
+		if (Move.piece(move) == Bitboards.PAWN) movesWithoutPawnCount = 0;
+		else movesWithoutPawnCount++;
+	}
+
+	@Override
+	public void put(MoveData data) {
+		if (data.color() != turnColor())
+			throw new IllegalStateException("Data turn color does not match expected move color.");
+		put(data.move(), data.notation());
+	}
+
+	@Override
+	public int movesCount() {
+		return size;
+	}
+
+	@Override
+	public int move(int ply) {
+		if (ply < 0 || ply >= size) throw new IndexOutOfBoundsException(ply);
+		return moves[ply];
+	}
+
+	/**
+	 * Gets notation of the move made in the specified ply.
+	 * @param ply index of the move, counting moves of both players from 0
+	 */
+	public String notation(int ply) {
+		if (ply < 0 || ply >= size) throw new IndexOutOfBoundsException(ply);
+		return notations[ply];
+	}
+
+	@Override
+	public MoveData getLastMove() {
+		if (size == 0) throw new IndexOutOfBoundsException(-1);
+		return moveData(size - 1);
+	}
+
+	@Override
+	public MoveData getLastMove(Color color) {
+		// the last ply of the player has the same parity as the player's first one
+		int ply = size - 1;
+		if ((ply & 1) != color.ordinal()) ply--;
+		if (ply < 0) throw new IndexOutOfBoundsException(ply);
+		return moveData(ply);
+	}
+
+	@Override
+	public Stream<MoveData> stream(Color color) {
+		return Stream.iterate(color.ordinal(), ply -> ply < size, ply -> ply + 2).map(this::moveData);
+	}
+
+	@Override
+	public Color turnColor() {
+		return ((size & 1) == 0) ? WHITE : BLACK;
+	}
+
+	@Override
+	public List<MoveData[]> getAllMoves() {
+		List<MoveData[]> moves = new ArrayList<>((size + 1) / 2);
+		for (int ply = 0; ply < size; ply += 2)
+			moves.add(new MoveData[]{moveData(ply), (ply + 1 < size) ? moveData(ply + 1) : null});
+		return moves;
+	}
+
+	@Override
+	public List<MoveData> getAllMoves(Color color) {
+		List<MoveData> moves = new ArrayList<>(size / 2 + 1);
+		for (int ply = color.ordinal(); ply < size; ply += 2) moves.add(moveData(ply));
+		return moves;
+	}
+
+	@Override
+	public int movesWithoutPawnCount() {
+		return movesWithoutPawnCount;
+	}
+
+	@Override
+	public void putPosition(long positionKey, boolean irreversible) {
+		positions.put(positionKey, irreversible);
+	}
+
+	@Override
+	public int positionCount(long positionKey) {
+		return positions.count(positionKey);
+	}
+
+	private MoveData moveData(int ply) {
+		return new MoveData(notations[ply], moves[ply], ((ply & 1) == 0) ? WHITE : BLACK);
+	}
+}
@@ -0,0 +1,32 @@
+package me.dzikimlecz.chessapi.game.movestoring;
+
+import java.util.Arrays;
+
+/**
+ * Hashes of positions reached in a game, used to detect repetitions.
+ * @see MoveDatabase#putPosition(long, boolean)
+ */
+final class PositionHistory {
+	/**
+	 * Hashes of positions reached in the game, in order of occurrence.
+	 */
+	private long[] positions = new long[64];
+	private int size;
+	/**
+	 * Index of the first position, which may repeat (reached by the last irreversible move).
+	 */
+	private int firstRepeatable;
+
+	void put(long positionKey, boolean irreversible) {
+		if (size == positions.length) positions = Arrays.copyOf(positions, size * 2);
+		if (irreversible) firstRepeatable = size;
+		positions[size++] = positionKey;
+	}
+
+	int count(long positionKey) {
+		int count = 0;
+		for (int i = size - 1; i >= firstRepeatable; i--)
+			if (positions[i] == positionKey) count++;
+		return count;
+	}
+}
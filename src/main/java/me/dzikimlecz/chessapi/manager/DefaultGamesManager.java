@@ -1,51 +1,58 @@
 package me.dzikimlecz.chessapi.manager;
 
 import me.dzikimlecz.chessapi.ChessEventListener;
-import me.dzikimlecz.chessapi.GameInfo;
 import me.dzikimlecz.chessapi.game.ChessGame;
-import me.dzikimlecz.chessapi.game.events.ChessEvent;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ForkJoinPool;
 
 public final class DefaultGamesManager<K> extends SkeletalGamesManager<K> {
-	protected final Map<ChessGame, GameInfo<K, ?>> gameInfoMap;
 	private final ExecutorService executor;
-
-	DefaultGamesManager() {
-		gameInfoMap = new HashMap<>();
-		executor = Executors.newFixedThreadPool(6);
+	private final ManagerOptions options;
+	private final boolean eventDriven;
+
+	DefaultGamesManager(ManagerOptions options) {
+		this.options = options;
+		eventDriven = options.executionMode() == ExecutionMode.EVENT_DRIVEN;
+		executor = switch (options.executionMode()) {
+			case FIXED_POOL -> Executors.newFixedThreadPool(options.poolSize());
+			case THREAD_PER_GAME -> newThreadPerTaskExecutor();
+			// async mode: games are scheduled in FIFO order instead of the default LIFO
+			case EVENT_DRIVEN -> new ForkJoinPool(options.parallelism(),
+					ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+			case SHARDED -> throw new IllegalArgumentException("Sharded games are run by ShardedGamesManager");
+		};
 	}
 
-	@Override public ChessGame newGame(K gameKey, ChessEventListener listener) {
-		var game = super.newGame(gameKey, listener);
-		executor.execute(game);
-		return game;
-	}
-
-	@Override public void move(K gameKey, String notation) {
-		var game = getGame(gameKey);
-		var filteredNotation = notation.replaceAll("[^\\S0-9]", "");
+	/**
+	 * Creates executor starting a virtual thread for each task, obtained reflectively, as the
+	 * library is compiled for a Java version without virtual threads. If they aren't available,
+	 * creates executor starting a platform thread for each task.
+	 */
+	private static ExecutorService newThreadPerTaskExecutor() {
 		try {
-			var chessEvent = new ChessEvent(filteredNotation);
-			game.handleEvent(chessEvent);
-		} catch(Exception e) {
-			throw new IllegalArgumentException("Illegal notation", e);
+			return (ExecutorService) Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch(ReflectiveOperationException | ClassCastException e) {
+			return Executors.newCachedThreadPool();
 		}
 	}
 
-	@Override public void attachInfo(GameInfo<K, ?> info) {
-		gameInfoMap.put(getGame(info.getKey()), info);
+	@Override protected ChessGame createGame(K gameKey, ChessEventListener listener) {
+		var builder = options.gameBuilder(gameKey, listener).publishTo(publisher());
+		if (eventDriven) builder.scheduler(executor, options.batchSize());
+		return builder.build();
 	}
 
-	@Override public GameInfo<K, ?> getInfo(K gameKey) {
-		return gameInfoMap.get(getGame(gameKey));
+	@Override public ChessGame newGame(K gameKey, ChessEventListener listener) {
+		var game = super.newGame(gameKey, listener);
+		if (!eventDriven) executor.execute(game);
+		return game;
 	}
 
 	@Override public void shutdown() {
 		executor.shutdownNow();
+		publisher().close();
 	}
 }
@@ -0,0 +1,38 @@
+package me.dzikimlecz.chessapi.manager;
+
+/**
+ * Way in which a manager runs its games.
+ * @see ManagerOptions#executionMode(ExecutionMode)
+ */
+public enum ExecutionMode {
+	/**
+	 * Each game blocks a thread of a fixed pool for its whole duration, so only as many games as
+	 * there are threads make progress at once.
+	 * @see ManagerOptions#poolSize(int)
+	 */
+	FIXED_POOL,
+	/**
+	 * Each game runs on its own virtual thread, which is cheap to block while the game waits for
+	 * events. Falls back to a platform thread per game, if virtual threads aren't available in the
+	 * running Java version.
+	 */
+	THREAD_PER_GAME,
+	/**
+	 * Games have no threads of their own. Each submitted event schedules its game on a shared
+	 * work-stealing pool (unless it's already scheduled), which processes queued events of the game
+	 * in batches, so the count of threads doesn't depend on the count of games. Events of one game
+	 * are still processed in order, by one thread at a time.
+	 * @see ManagerOptions#parallelism(int)
+	 * @see ManagerOptions#batchSize(int)
+	 */
+	EVENT_DRIVEN,
+	/**
+	 * Games are partitioned by hashes of their keys across shards, each with its own registry of
+	 * games and its own thread, on which its games are processed as in {@link #EVENT_DRIVEN} mode.
+	 * Games of different shards never contend, and games of one shard keep their boards in caches
+	 * of one thread.
+	 * @see ManagerOptions#shards(int)
+	 * @see ShardedGamesManager#metrics()
+	 */
+	SHARDED,
+}
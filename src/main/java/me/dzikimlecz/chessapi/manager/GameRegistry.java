@@ -0,0 +1,102 @@
+package me.dzikimlecz.chessapi.manager;
+
+import me.dzikimlecz.chessapi.GameInfo;
+import me.dzikimlecz.chessapi.game.ChessGame;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe registry of games by their keys. Lookups don't lock nor allocate, registering and
+ * removing a game are atomic, so games may be created, moved and closed from many threads at once.
+ * Info attached to a game is kept in the same entry, so it's removed together with the game.
+ * @param <K> type of keys of games
+ */
+final class GameRegistry<K> {
+	private final ConcurrentHashMap<K, Entry<K>> games = new ConcurrentHashMap<>();
+
+	private static final class Entry<K> {
+		private final ChessGame game;
+		private volatile GameInfo<K, ?> info;
+
+		Entry(ChessGame game) {
+			this.game = game;
+		}
+	}
+
+	/**
+	 * Gets the game registered under the key, whether it's ongoing or not.
+	 * @return the game or null if there is no game registered under the key
+	 */
+	@Nullable ChessGame get(@NotNull K gameKey) {
+		var entry = games.get(gameKey);
+		return (entry == null) ? null : entry.game;
+	}
+
+	/**
+	 * Gets the ongoing game of the key. Game which has already stopped is removed.
+	 * @return the game or null if there is no ongoing game of the key
+	 */
+	@Nullable ChessGame find(@NotNull K gameKey) {
+		var entry = games.get(gameKey);
+		if (entry == null) return null;
+		if (entry.game.isOngoing()) return entry.game;
+		games.remove(gameKey, entry);
+		return null;
+	}
+
+	/**
+	 * Registers a new game under the key, unless an ongoing game is already registered under it.
+	 * Check and registration are a single atomic operation, so of games created concurrently under
+	 * one key only one gets registered.
+	 * @param factory creates the game, called at most once and only if the key is free
+	 * @return the registered game
+	 * @throws IllegalStateException if there's an ongoing game registered under the key
+	 */
+	@NotNull ChessGame register(@NotNull K gameKey, @NotNull Supplier<ChessGame> factory) {
+		return games.compute(gameKey, (key, entry) -> {
+			if (entry != null && entry.game.isOngoing())
+				throw new IllegalStateException("Game on this gameKey is already ongoing");
+			return new Entry<>(factory.get());
+		}).game;
+	}
+
+	/**
+	 * Removes the game, if it's still registered under the key.
+	 * @return true if the game was removed
+	 */
+	boolean remove(@NotNull K gameKey, @NotNull ChessGame game) {
+		var entry = games.get(gameKey);
+		return entry != null && entry.game == game && games.remove(gameKey, entry);
+	}
+
+	/**
+	 * Attaches the info to the game, if it's still registered under the key.
+	 * @return true if the info was attached
+	 */
+	boolean attachInfo(@NotNull K gameKey, @NotNull ChessGame game, @NotNull GameInfo<K, ?> info) {
+		var entry = games.get(gameKey);
+		if (entry == null || entry.game != game) return false;
+		entry.info = info;
+		return true;
+	}
+
+	/**
+	 * Gets info attached to the game, if it's still registered under the key.
+	 * @return the info or null if none is attached
+	 */
+	@Nullable GameInfo<K, ?> info(@NotNull K gameKey, @NotNull ChessGame game) {
+		var entry = games.get(gameKey);
+		return (entry == null || entry.game != game) ? null : entry.info;
+	}
+
+	/**
+	 * Gets count of registered games, including ones which have stopped, but haven't been looked up
+	 * since.
+	 */
+	int size() {
+		return games.size();
+	}
+}
@@ -1,17 +1,32 @@
 package me.dzikimlecz.chessapi.manager;
 
 import me.dzikimlecz.chessapi.ChessEventListener;
+import me.dzikimlecz.chessapi.GameEvent;
 import me.dzikimlecz.chessapi.GameInfo;
+import me.dzikimlecz.chessapi.MoveResult;
 import me.dzikimlecz.chessapi.game.ChessGame;
+import me.dzikimlecz.chessapi.game.PositionSnapshot;
 import me.dzikimlecz.chessapi.game.board.Color;
 import me.dzikimlecz.chessapi.game.board.pieces.ChessPiece;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 public interface GamesManager<K> {
     @SuppressWarnings("all")
     static<E> GamesManager<E> newManager() {
-        return new DefaultGamesManager<E>();
+        return new DefaultGamesManager<E>(ManagerOptions.defaults());
+    }
+
+    /**
+     * Creates manager running games as specified by the options.
+     * @see ManagerOptions
+     */
+    static<E> GamesManager<E> newManager(ManagerOptions options) {
+        if (options.executionMode() == ExecutionMode.SHARDED) return new ShardedGamesManager<>(options);
+        return new DefaultGamesManager<>(options);
     }
 
     ChessGame newGame(K gameKey, ChessEventListener listener);
@@ -22,12 +37,71 @@ public interface GamesManager<K> {
 
     void move(K gameKey, String notation);
 
+    /**
+     * Submits the move to the game. The future is completed by the game when it processes the move,
+     * with the result also reported to the listener of the game.
+     * @return future of result of the move, failed with {@link IllegalArgumentException} if the
+     * notation isn't notation of a move or with {@link IllegalStateException} if the game stops
+     * before processing the move
+     * @throws IllegalArgumentException if there's no ongoing game of the key
+     */
+    CompletableFuture<MoveResult> submitMove(K gameKey, String notation);
+
+    /**
+     * Submits the moves to the game as one event, so they are made back-to-back. Making them stops
+     * at the first illegal move or when the game ends.
+     * @return future of results of the made moves and of the illegal one, if there was one
+     * @throws IllegalArgumentException if there's no ongoing game of the key
+     * @see #submitMove(Object, String)
+     */
+    CompletableFuture<List<MoveResult>> moveBatch(K gameKey, List<String> notations);
+
+    /**
+     * Submits moves of each of the games as one event of the game.
+     * @return future of results of moves of each of the games, failed if submitting moves to any of
+     * the games fails
+     * @throws IllegalArgumentException if there's no ongoing game of any of the keys (then no moves
+     * are submitted)
+     * @see #moveBatch(Object, List)
+     */
+    CompletableFuture<Map<K, List<MoveResult>>> moveBatch(Map<K, List<String>> notations);
+
+    /**
+     * Gets publisher of events of all games of the manager. Games created by the manager are named
+     * by their keys, so events tell which game they come from. As with events of a single game,
+     * a subscriber with a full buffer misses events, which are counted by the game they come from.
+     * @see ChessGame#events()
+     * @see ChessGame#missedGameEvents()
+     */
+    Flow.Publisher<GameEvent> events();
+
+    /**
+     * Gets publisher of events of the game.
+     * @throws IllegalArgumentException if there's no ongoing game of the key
+     * @see ChessGame#events()
+     */
+    Flow.Publisher<GameEvent> events(K gameKey);
+
     void attachInfo(GameInfo<K, ?> info);
 
     GameInfo<K, ?> getInfo(K gameKey);
 
+    /**
+     * Gets pieces of the game by rows (from the 1st) and lines (from a), as they stood after the
+     * last move. Pieces are new ones created from the snapshot of the position, so changing them
+     * doesn't affect the game.
+     * @return pieces with null for empty squares or an empty list if there's no game of the key
+     * @see #snapshot(Object)
+     * @see PositionSnapshot#piece(int)
+     */
     List<List<ChessPiece>> read(K gameKey);
 
+    /**
+     * Gets snapshot of the position of the game after the last move.
+     * @throws IllegalArgumentException if there's no ongoing game of the key
+     */
+    PositionSnapshot snapshot(K gameKey);
+
     void requestDraw(K gameKey, Color requester);
 
     void shutdown();
@@ -0,0 +1,159 @@
+package me.dzikimlecz.chessapi.manager;
+
+import me.dzikimlecz.chessapi.AsyncChessEventListener;
+import me.dzikimlecz.chessapi.ChessEventListener;
+import me.dzikimlecz.chessapi.game.ChessGame;
+import me.dzikimlecz.chessapi.game.events.OverloadPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Options of a games manager created by {@link GamesManager#newManager(ManagerOptions)}.
+ */
+public final class ManagerOptions {
+	private ExecutionMode executionMode = ExecutionMode.FIXED_POOL;
+	private int poolSize = 6;
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+	private int batchSize = 16;
+	private int shards = Runtime.getRuntime().availableProcessors();
+	private int queueCapacity = 50;
+	private OverloadPolicy overloadPolicy = OverloadPolicy.BLOCK;
+	private Duration blockTimeout;
+	private Executor listenerExecutor;
+
+	public static ManagerOptions defaults() {
+		return new ManagerOptions();
+	}
+
+	public ManagerOptions executionMode(@NotNull ExecutionMode executionMode) {
+		this.executionMode = Objects.requireNonNull(executionMode);
+		return this;
+	}
+
+	/**
+	 * Sets count of threads running games in {@link ExecutionMode#FIXED_POOL} mode.
+	 */
+	public ManagerOptions poolSize(int poolSize) {
+		if (poolSize < 1) throw new IllegalArgumentException("Pool size must be positive");
+		this.poolSize = poolSize;
+		return this;
+	}
+
+	/**
+	 * Sets count of threads of the pool shared by games in {@link ExecutionMode#EVENT_DRIVEN} mode.
+	 * Count of available processors by default.
+	 */
+	public ManagerOptions parallelism(int parallelism) {
+		if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive");
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	/**
+	 * Sets maximal count of events of one game processed each time it's scheduled in
+	 * {@link ExecutionMode#EVENT_DRIVEN} mode. Bigger batches favour throughput, smaller ones
+	 * fairness between games.
+	 */
+	public ManagerOptions batchSize(int batchSize) {
+		if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive");
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Sets count of shards in {@link ExecutionMode#SHARDED} mode. Count of available processors by
+	 * default.
+	 */
+	public ManagerOptions shards(int shards) {
+		if (shards < 1) throw new IllegalArgumentException("Shard count must be positive");
+		this.shards = shards;
+		return this;
+	}
+
+	/**
+	 * Sets capacity of queues of events of games.
+	 * @see ChessGame.Builder#queueCapacity(int)
+	 */
+	public ManagerOptions queueCapacity(int queueCapacity) {
+		if (queueCapacity < 1) throw new IllegalArgumentException("Queue capacity must be positive");
+		this.queueCapacity = queueCapacity;
+		return this;
+	}
+
+	/**
+	 * Sets what games do with events submitted when their queues are full.
+	 * @param blockTimeout how long a thread may wait with {@link OverloadPolicy#BLOCK} policy, or
+	 *                     null to wait as long as it's needed
+	 * @see ChessGame.Builder#overloadPolicy(OverloadPolicy)
+	 */
+	public ManagerOptions overloadPolicy(@NotNull OverloadPolicy overloadPolicy,
+	                                     @Nullable Duration blockTimeout) {
+		this.overloadPolicy = Objects.requireNonNull(overloadPolicy);
+		this.blockTimeout = blockTimeout;
+		return this;
+	}
+
+	/**
+	 * Makes games notify their listeners on the executor instead of their own threads. The executor
+	 * isn't shut down by the manager.
+	 * @param listenerExecutor executor delivering notifications or null to deliver them on threads
+	 *                         of games
+	 * @see AsyncChessEventListener
+	 */
+	public ManagerOptions listenerExecutor(@Nullable Executor listenerExecutor) {
+		this.listenerExecutor = listenerExecutor;
+		return this;
+	}
+
+	public ExecutionMode executionMode() {
+		return executionMode;
+	}
+
+	public int poolSize() {
+		return poolSize;
+	}
+
+	public int parallelism() {
+		return parallelism;
+	}
+
+	public int batchSize() {
+		return batchSize;
+	}
+
+	public int shards() {
+		return shards;
+	}
+
+	public int queueCapacity() {
+		return queueCapacity;
+	}
+
+	public OverloadPolicy overloadPolicy() {
+		return overloadPolicy;
+	}
+
+	public @Nullable Duration blockTimeout() {
+		return blockTimeout;
+	}
+
+	public @Nullable Executor listenerExecutor() {
+		return listenerExecutor;
+	}
+
+	/**
+	 * Creates builder of a game named by its key, with queue of events and dispatch of notifications
+	 * as specified by the options.
+	 */
+	ChessGame.Builder gameBuilder(Object gameKey, ChessEventListener listener) {
+		if (listenerExecutor != null) listener = new AsyncChessEventListener(listener, listenerExecutor);
+		var builder = new ChessGame.Builder(listener).name(String.valueOf(gameKey))
+				.queueCapacity(queueCapacity).overloadPolicy(overloadPolicy);
+		if (blockTimeout != null) builder.blockTimeout(blockTimeout);
+		return builder;
+	}
+}
@@ -0,0 +1,123 @@
+package me.dzikimlecz.chessapi.manager;
+
+import me.dzikimlecz.chessapi.ChessEventListener;
+import me.dzikimlecz.chessapi.MoveResult;
+import me.dzikimlecz.chessapi.game.ChessGame;
+import me.dzikimlecz.chessapi.game.board.Color;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Manager partitioning games by hashes of their keys across independent shards. Each shard has its
+ * own registry of games and its own thread, on which its games are scheduled as mailboxes, so
+ * games of different shards never contend for a registry nor a thread.
+ * @see ExecutionMode#SHARDED
+ * @see #metrics()
+ */
+public final class ShardedGamesManager<K> extends SkeletalGamesManager<K> {
+	private final List<Shard<K>> shards;
+	private final ManagerOptions options;
+
+	/**
+	 * Creates manager with {@link ManagerOptions#shards() shards} count of shards, processing
+	 * {@link ManagerOptions#batchSize() batchSize} of events of a game at once.
+	 */
+	public ShardedGamesManager(@NotNull ManagerOptions options) {
+		this.options = options;
+		var shards = new ArrayList<Shard<K>>(options.shards());
+		for (int i = 0; i < options.shards(); i++) shards.add(new Shard<>(i));
+		this.shards = List.copyOf(shards);
+	}
+
+	/**
+	 * Load of a shard.
+	 * @param shard index of the shard
+	 * @param games count of games registered in the shard
+	 * @param events count of events submitted to games of the shard
+	 * @param scheduledGames count of games waiting for the thread of the shard
+	 */
+	public record ShardMetrics(int shard, int games, long events, int scheduledGames) {}
+
+	/**
+	 * Gets current load of each of the shards.
+	 * @return metrics ordered by index of the shard
+	 */
+	public List<ShardMetrics> metrics() {
+		var metrics = new ArrayList<ShardMetrics>(shards.size());
+		for (var shard : shards) metrics.add(shard.metrics());
+		return metrics;
+	}
+
+	/**
+	 * Gets index of the shard of the game of the key.
+	 */
+	public int shardOf(@NotNull K gameKey) {
+		final int hash = gameKey.hashCode();
+		// spreads higher bits, as in HashMap, so keys differing only in them don't share a shard
+		return Math.floorMod(hash ^ (hash >>> 16), shards.size());
+	}
+
+	private Shard<K> shard(K gameKey) {
+		return shards.get(shardOf(gameKey));
+	}
+
+	@Override GameRegistry<K> registry(K gameKey) {
+		return shard(gameKey).registry;
+	}
+
+	@Override protected ChessGame createGame(K gameKey, ChessEventListener listener) {
+		return options.gameBuilder(gameKey, listener).publishTo(publisher())
+				.scheduler(shard(gameKey).executor, options.batchSize()).build();
+	}
+
+	@Override public void move(K gameKey, String notation) {
+		super.move(gameKey, notation);
+		shard(gameKey).events.increment();
+	}
+
+	@Override public CompletableFuture<MoveResult> submitMove(K gameKey, String notation) {
+		var result = super.submitMove(gameKey, notation);
+		shard(gameKey).events.increment();
+		return result;
+	}
+
+	@Override public CompletableFuture<List<MoveResult>> moveBatch(K gameKey, List<String> notations) {
+		var result = super.moveBatch(gameKey, notations);
+		shard(gameKey).events.increment();
+		return result;
+	}
+
+	@Override public void requestDraw(K gameKey, Color requester) {
+		super.requestDraw(gameKey, requester);
+		shard(gameKey).events.increment();
+	}
+
+	@Override public void shutdown() {
+		for (var shard : shards) shard.executor.shutdownNow();
+		publisher().close();
+	}
+
+	private static final class Shard<K> {
+		private final int index;
+		private final GameRegistry<K> registry = new GameRegistry<>();
+		private final LongAdder events = new LongAdder();
+		private final ThreadPoolExecutor executor;
+
+		Shard(int index) {
+			this.index = index;
+			executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+			                                  runnable -> new Thread(runnable, "chess-shard-" + index));
+		}
+
+		ShardMetrics metrics() {
+			return new ShardMetrics(index, registry.size(), events.sum(), executor.getQueue().size());
+		}
+	}
+}
@@ -1,7 +1,11 @@
 package me.dzikimlecz.chessapi.manager;
 
 import me.dzikimlecz.chessapi.ChessEventListener;
+import me.dzikimlecz.chessapi.GameEvent;
+import me.dzikimlecz.chessapi.GameInfo;
+import me.dzikimlecz.chessapi.MoveResult;
 import me.dzikimlecz.chessapi.game.ChessGame;
+import me.dzikimlecz.chessapi.game.PositionSnapshot;
 import me.dzikimlecz.chessapi.game.board.Color;
 import me.dzikimlecz.chessapi.game.board.pieces.ChessPiece;
 import me.dzikimlecz.chessapi.game.events.ChessEvent;
@@ -11,48 +15,176 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
 
 public abstract class SkeletalGamesManager<K> implements GamesManager<K> {
-    protected final Map<K, ChessGame> games;
+    private final GameRegistry<K> games;
+    private final SubmissionPublisher<GameEvent> publisher;
 
     protected SkeletalGamesManager() {
-        games = new HashMap<>();
+        games = new GameRegistry<>();
+        publisher = new SubmissionPublisher<>();
+    }
+
+    /**
+     * Gets publisher, through which games of the manager publish their events.
+     */
+    protected SubmissionPublisher<GameEvent> publisher() {
+        return publisher;
+    }
+
+    @Override public Flow.Publisher<GameEvent> events() {
+        return publisher;
+    }
+
+    @Override public Flow.Publisher<GameEvent> events(K gameKey) {
+        return getGame(gameKey).events();
+    }
+
+    /**
+     * Gets registry of the game of the key. All operations of the manager go through it.
+     */
+    GameRegistry<K> registry(K gameKey) {
+        return games;
     }
 
     @Override public ChessGame newGame(K gameKey, ChessEventListener listener) {
-        var game = new ChessGame(listener);
-        if (games.containsKey(gameKey) && games.get(gameKey).isOngoing())
-            throw new IllegalStateException("Game on this gameKey is already ongoing");
-        games.put(gameKey, game);
-        return game;
+        return registry(gameKey).register(gameKey, () -> createGame(gameKey, listener));
+    }
+
+    /**
+     * Creates game registered under the key by {@link #newGame(Object, ChessEventListener)}.
+     */
+    protected ChessGame createGame(K gameKey, ChessEventListener listener) {
+        return new ChessGame.Builder(listener).name(String.valueOf(gameKey)).publishTo(publisher).build();
     }
 
     @Override public void forceClose(K gameKey) {
-        getGame(gameKey).stopGame();
-        games.remove(gameKey);
+        var game = getGame(gameKey);
+        game.stopGame();
+        registry(gameKey).remove(gameKey, game);
     }
 
     @Override public boolean close(K gameKey) {
-        var ongoing = getGame(gameKey).isOngoing();
-        if (!ongoing)
-            forceClose(gameKey);
-        return !ongoing;
+        var registry = registry(gameKey);
+        var game = registry.get(gameKey);
+        if (game == null) throw noGameException(gameKey);
+        if (game.isOngoing()) return false;
+        registry.remove(gameKey, game);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the notation isn't notation of a move or a request
+     * @throws me.dzikimlecz.chessapi.game.events.GameOverloadedException if the queue of events of
+     * the game is full and the move is rejected
+     */
+    @Override public void move(K gameKey, String notation) {
+        var game = getGame(gameKey);
+        var chessEvent = new ChessEvent(filter(notation));
+        try {
+            game.handleEvent(chessEvent);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while submitting the move", e);
+        }
+    }
+
+    @Override public CompletableFuture<MoveResult> submitMove(K gameKey, String notation) {
+        var game = getGame(gameKey);
+        var result = new CompletableFuture<MoveResult>();
+        try {
+            game.handleEvent(new ChessEvent(filter(notation), result));
+        } catch(IllegalArgumentException | IllegalStateException e) {
+            result.completeExceptionally(e);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @Override public CompletableFuture<List<MoveResult>> moveBatch(K gameKey, List<String> notations) {
+        var game = getGame(gameKey);
+        var result = new CompletableFuture<List<MoveResult>>();
+        var filtered = new ArrayList<String>(notations.size());
+        for (var notation : notations) filtered.add(filter(notation));
+        try {
+            game.handleEvent(ChessEvent.batch(filtered, result));
+        } catch(IllegalArgumentException | IllegalStateException e) {
+            result.completeExceptionally(e);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Map<K, List<MoveResult>>> moveBatch(Map<K, List<String>> notations) {
+        // all games are looked up first, so nothing is submitted if any of them is missing
+        for (var gameKey : notations.keySet()) getGame(gameKey);
+        var results = new HashMap<K, CompletableFuture<List<MoveResult>>>();
+        notations.forEach((gameKey, moves) -> results.put(gameKey, moveBatch(gameKey, moves)));
+        return CompletableFuture.allOf(results.values().toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            var map = new HashMap<K, List<MoveResult>>();
+            results.forEach((gameKey, result) -> map.put(gameKey, result.join()));
+            return map;
+        });
+    }
+
+    /**
+     * Removes whitespace from the notation.
+     */
+    private static String filter(String notation) {
+        int i = 0;
+        while (i < notation.length() && !Character.isWhitespace(notation.charAt(i))) i++;
+        // most notations have no whitespace, so they aren't copied
+        if (i == notation.length()) return notation;
+        var builder = new StringBuilder(notation.length()).append(notation, 0, i);
+        for (; i < notation.length(); i++) {
+            final char aChar = notation.charAt(i);
+            if (!Character.isWhitespace(aChar)) builder.append(aChar);
+        }
+        return builder.toString();
     }
 
     @Override public List<List<ChessPiece>> read(K gameKey) {
         var pieces = new ArrayList<List<ChessPiece>>(8);
-        ChessGame game = games.get(gameKey);
+        ChessGame game = registry(gameKey).get(gameKey);
         if (game != null) {
-            var board = game.board();
-            for (int row = 1; row <= 8; row++) {
+            // the snapshot is read instead of the board, which may be in the middle of a move, and
+            // the pieces are created from its bytes, so callers never get pieces of the game
+            var snapshot = game.snapshot();
+            for (int row = 0; row < 8; row++) {
                 pieces.add(new ArrayList<>(8));
-                for (char line = 'a'; line <= 'h'; line++)
-                    pieces.get(row - 1).add(board.square(line, row).piece());
+                for (int line = 0; line < 8; line++) pieces.get(row).add(snapshot.piece(row * 8 + line));
             }
         }
         return pieces;
     }
 
+    /**
+     * Attaches the info to the ongoing game of its key. The info is kept together with the game, so it's removed when the game is removed, whether
+     * by closing it or by looking up a game which has stopped.
+     */
+    @Override public void attachInfo(GameInfo<K, ?> info) {
+        var gameKey = info.getKey();
+        if (!registry(gameKey).attachInfo(gameKey, getGame(gameKey), info))
+            throw noGameException(gameKey);
+    }
+
+    @Override public GameInfo<K, ?> getInfo(K gameKey) {
+        return registry(gameKey).info(gameKey, getGame(gameKey));
+    }
+
+    @Override public PositionSnapshot snapshot(K gameKey) {
+        return getGame(gameKey).snapshot();
+    }
+
     @Override public void requestDraw(K gameKey, Color requester) {
         var game = getGame(gameKey);
         try {
@@ -62,17 +194,19 @@ public abstract class SkeletalGamesManager<K> implements GamesManager<K> {
         }
     }
 
+    /**
+     * Gets the ongoing game of the key.
+     * @throws IllegalArgumentException if there's no ongoing game of the key
+     */
     @NotNull
     protected ChessGame getGame(K gameKey) {
-        var noGameException = new IllegalArgumentException(
-                "There is no game corresponding to gameKey: " + gameKey.toString()
-        );
-        var game = games.computeIfAbsent(gameKey, gameKey1 -> {
-            throw noGameException;
-        });
-        if (game.isOngoing()) return game;
-        games.remove(gameKey);
-        throw noGameException;
+        var game = registry(gameKey).find(gameKey);
+        if (game == null) throw noGameException(gameKey);
+        return game;
+    }
+
+    private static IllegalArgumentException noGameException(Object gameKey) {
+        return new IllegalArgumentException("There is no game corresponding to gameKey: " + gameKey);
     }
 
 
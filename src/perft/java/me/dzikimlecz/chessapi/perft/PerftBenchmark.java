@@ -0,0 +1,42 @@
+package me.dzikimlecz.chessapi.perft;
+
+import me.dzikimlecz.chessapi.game.board.Board;
+import me.dzikimlecz.chessapi.game.board.Perft;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts perft nodes sequentially and in parallel on both implementations of the board, printing
+ * counts and speed in nodes per second.
+ * <br>Arguments: {@code [depth] [FEN]}; without FEN well known test positions are used.
+ */
+public class PerftBenchmark {
+	private static final Map<String, String> POSITIONS = new LinkedHashMap<>();
+
+	static {
+		POSITIONS.put("start", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+		POSITIONS.put("kiwipete",
+				"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		POSITIONS.put("position 3", "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+	}
+
+	public static void main(String[] args) {
+		final int depth = (args.length > 0) ? Integer.parseInt(args[0]) : 5;
+		Map<String, String> positions = POSITIONS;
+		if (args.length > 1) positions = Map.of("custom", String.join(" ", args).substring(args[0].length() + 1));
+		positions.forEach((name, fen) -> {
+			System.out.println(name + ": " + fen);
+			run("sequential", Board.createFromFEN(fen), depth, false);
+			run("parallel  ", Board.createFromFEN(fen), depth, true);
+		});
+	}
+
+	private static void run(String label, Board board, int depth, boolean parallel) {
+		final long start = System.nanoTime();
+		final long nodes = parallel ? Perft.parallelPerft(board, depth) : Perft.perft(board, depth);
+		final long nanos = Math.max(System.nanoTime() - start, 1L);
+		System.out.printf("  %s depth %d: %d nodes, %d ms, %d nodes/s%n",
+				label, depth, nodes, nanos / 1_000_000, (long) (nodes * 1e9 / nanos));
+	}
+}
@@ -0,0 +1,111 @@
+package me.dzikimlecz.chessapi;
+
+import me.dzikimlecz.chessapi.game.board.Color;
+import me.dzikimlecz.chessapi.game.board.pieces.Piece;
+import me.dzikimlecz.chessapi.game.board.pieces.Queen;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncChessEventListenerTest {
+
+    @Test
+    @DisplayName("Should deliver notifications in order and report lag of a slow listener")
+    public void slowListenerTest() throws Exception {
+        //Given
+        var release = new CountDownLatch(1);
+        var delivered = new CountDownLatch(101);
+        final List<String> notifications = new ArrayList<>();
+        var executor = Executors.newFixedThreadPool(4);
+        var listener = new AsyncChessEventListener(new ChessEventListener() {
+            @Override public void onMate(Color winner) {
+                notifications.add("mate");
+                delivered.countDown();
+            }
+            @Override public void onDraw(DrawReason reason) {}
+            @Override public void onMoveHandled() {
+                try {
+                    release.await();
+                } catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                notifications.add("move");
+                delivered.countDown();
+            }
+            @Override public Class<? extends Piece> onPawnExchange() {
+                return Queen.class;
+            }
+        }, executor);
+        //When
+        for (int i = 0; i < 100; i++) listener.onMoveHandled();
+        listener.onMate(Color.WHITE);
+        Thread.sleep(50);
+        //Then
+        assertTrue(listener.pending() >= 100);
+        assertTrue(listener.lag().compareTo(Duration.ZERO) > 0);
+        release.countDown();
+        // returns only after all the queued notifications have been delivered
+        assertEquals(Queen.class, listener.onPawnExchange());
+        assertEquals(0, delivered.getCount());
+        executor.shutdown();
+        assertEquals(101, notifications.size());
+        assertEquals("mate", notifications.get(100));
+        assertEquals(0, listener.pending());
+        assertEquals(Duration.ZERO, listener.lag());
+    }
+
+    @Test
+    @DisplayName("Should deliver queued notifications before a draw request, never calling the listener concurrently")
+    public void drawRequestOrderTest() throws Exception {
+        //Given
+        final List<String> notifications = new ArrayList<>();
+        var calls = new AtomicInteger();
+        var overlapped = new AtomicBoolean();
+        var executor = Executors.newFixedThreadPool(4);
+        var listener = new AsyncChessEventListener(new ChessEventListener() {
+            private void call(String notification) {
+                if (calls.incrementAndGet() > 1) overlapped.set(true);
+                notifications.add(notification);
+                calls.decrementAndGet();
+            }
+            @Override public void onMate(Color winner) {}
+            @Override public void onDraw(DrawReason reason) {}
+            @Override public void onMoveHandled() {
+                call("move");
+            }
+            @Override public void onCheck(Color checked) {
+                call("check");
+            }
+            @Override public boolean onDrawRequest(Color requester) {
+                call("draw request");
+                return true;
+            }
+            @Override public Class<? extends Piece> onPawnExchange() {
+                return Queen.class;
+            }
+        }, executor);
+        //When
+        for (int i = 0; i < 500; i++) {
+            listener.onMoveHandled();
+            listener.onCheck(Color.BLACK);
+        }
+        boolean accepted = listener.onDrawRequest(Color.WHITE);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        //Then
+        assertTrue(accepted);
+        assertFalse(overlapped.get());
+        assertEquals(1001, notifications.size());
+        assertEquals("draw request", notifications.get(1000));
+    }
+}
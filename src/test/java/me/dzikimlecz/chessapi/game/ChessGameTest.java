@@ -0,0 +1,397 @@
+package me.dzikimlecz.chessapi.game;
+
+import me.dzikimlecz.chessapi.ChessEventListener;
+import me.dzikimlecz.chessapi.DrawReason;
+import me.dzikimlecz.chessapi.GameEvent;
+import me.dzikimlecz.chessapi.MoveResult;
+import me.dzikimlecz.chessapi.game.board.Bitboards;
+import me.dzikimlecz.chessapi.game.board.Board;
+import me.dzikimlecz.chessapi.game.board.Color;
+import me.dzikimlecz.chessapi.game.board.Move;
+import me.dzikimlecz.chessapi.game.board.MoveList;
+import me.dzikimlecz.chessapi.game.board.pieces.Pawn;
+import me.dzikimlecz.chessapi.game.board.pieces.Piece;
+import me.dzikimlecz.chessapi.game.board.pieces.Queen;
+import me.dzikimlecz.chessapi.game.events.ChessEvent;
+import me.dzikimlecz.chessapi.game.events.GameOverloadedException;
+import me.dzikimlecz.chessapi.game.events.OverloadPolicy;
+import me.dzikimlecz.chessapi.game.movestoring.ListMoveDatabase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChessGameTest {
+
+    @Test
+    @DisplayName("Should declare a draw after the same position occurs for the third time")
+    public void threefoldRepetitionTest() throws Exception {
+        //Given
+        final var draw = new CompletableFuture<DrawReason>();
+        var game = new ChessGame(new ChessEventListener() {
+            @Override public void onMate(Color winner) {}
+            @Override public void onDraw(DrawReason reason) {
+                draw.complete(reason);
+            }
+            @Override public Class<? extends Piece> onPawnExchange() {
+                return Queen.class;
+            }
+        });
+        new Thread(game).start();
+        //When
+        for (int i = 0; i < 2; i++)
+            for (String move : new String[]{"Nf3", "Nf6", "Ng1", "Ng8"})
+                game.handleEvent(new ChessEvent(move));
+        //Then
+        assertEquals(DrawReason.TRIPLE_POSITION_REPEAT, draw.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should process events of an event-driven game in order of submission")
+    public void eventDrivenGameTest() throws Exception {
+        //Given
+        final var draw = new CompletableFuture<DrawReason>();
+        var pool = new ForkJoinPool(4);
+        var game = new ChessGame.Builder(new ChessEventListener() {
+            @Override public void onMate(Color winner) {}
+            @Override public void onDraw(DrawReason reason) {
+                draw.complete(reason);
+            }
+            @Override public Class<? extends Piece> onPawnExchange() {
+                return Queen.class;
+            }
+        }).scheduler(pool, 1).build();
+        try {
+            //When
+            for (int i = 0; i < 2; i++)
+                for (String move : new String[]{"Nf3", "Nf6", "Ng1", "Ng8"})
+                    game.handleEvent(new ChessEvent(move));
+            //Then
+            assertEquals(DrawReason.TRIPLE_POSITION_REPEAT, draw.get(5, TimeUnit.SECONDS));
+            assertThrows(IllegalStateException.class, game::run);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not count positions occurred before a pawn move as repeated")
+    public void irreversibleMoveTest() throws Exception {
+        //Given
+        final var draw = new CompletableFuture<DrawReason>();
+        final var handled = new CompletableFuture<Void>();
+        final int[] moves = {0};
+        var game = new ChessGame(new ChessEventListener() {
+            @Override public void onMate(Color winner) {}
+            @Override public void onDraw(DrawReason reason) {
+                draw.complete(reason);
+            }
+            @Override public void onMoveHandled() {
+                if (++moves[0] == 10) handled.complete(null);
+            }
+            @Override public Class<? extends Piece> onPawnExchange() {
+                return Queen.class;
+            }
+        });
+        new Thread(game).start();
+        //When
+        for (String move : new String[]{"Nf3", "Nf6", "Ng1", "Ng8", "e4", "e5"})
+            game.handleEvent(new ChessEvent(move));
+        for (String move : new String[]{"Nf3", "Nf6", "Ng1", "Ng8"})
+            game.handleEvent(new ChessEvent(move));
+        handled.get(5, TimeUnit.SECONDS);
+        //Then
+        assertFalse(draw.isDone());
+        assertTrue(game.isOngoing());
+        game.stopGame();
+    }
+
+    @Test
+    @DisplayName("Should declare a mate when the checked player has no legal moves")
+    public void mateTest() throws Exception {
+        //Given
+        final var winner = new CompletableFuture<Color>();
+        var game = new ChessGame(new ChessEventListener() {
+            @Override public void onMate(Color color) {
+                winner.complete(color);
+            }
+            @Override public void onDraw(DrawReason reason) {}
+            @Override public Class<? extends Piece> onPawnExchange() {
+                return Queen.class;
+            }
+        });
+        var buffer = new MoveList();
+        assertEquals(20, game.legalMoves(buffer));
+        assertEquals(20, game.legalMoves().size());
+        // generated once per position
+        assertSame(game.snapshot().legalMoves(), game.snapshot().legalMoves());
+        new Thread(game).start();
+        //When
+        for (String move : new String[]{"f3", "e5", "g4", "Qh4"})
+            game.handleEvent(new ChessEvent(move));
+        //Then
+        assertNotNull(winner.get(5, TimeUnit.SECONDS));
+        assertTrue(game.legalMoves().isEmpty());
+        assertEquals(0, game.legalMoves(buffer));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should accept blocking the check and reject moves leaving the king in check")
+    public void blockCheckTest() throws Exception {
+        //Given
+        final var illegalMoves = new int[]{0};
+        final var handled = new CompletableFuture<Void>();
+        final int[] moves = {0};
+        var game = new ChessGame(new ChessEventListener() {
+            @Override public void onMate(Color color) {}
+            @Override public void onDraw(DrawReason reason) {}
+            @Override public void onIllegalMove() {
+                illegalMoves[0]++;
+            }
+            @Override public void onMoveHandled() {
+                if (++moves[0] == 4) handled.complete(null);
+            }
+            @Override public Class<? extends Piece> onPawnExchange() {
+                return Queen.class;
+            }
+        });
+        new Thread(game).start();
+        //When
+        for (String move : new String[]{"e4", "f5", "Qh5", "Nf6", "g6"})
+            game.handleEvent(new ChessEvent(move));
+        handled.get(5, TimeUnit.SECONDS);
+        //Then
+        assertEquals(1, illegalMoves[0]);
+        assertEquals(Color.WHITE, game.color());
+        game.stopGame();
+    }
+
+    @Test
+    @DisplayName("Should store made moves as packed moves, including captures en passant")
+    public void packedMovesTest() throws Exception {
+        //Given
+        final var handled = new CompletableFuture<Void>();
+        final int[] moves = {0};
+        var database = new ListMoveDatabase();
+        var game = new ChessGame.Builder(new ChessEventListener() {
+            @Override public void onMate(Color color) {}
+            @Override public void onDraw(DrawReason reason) {}
+            @Override public void onMoveHandled() {
+                if (++moves[0] == 5) handled.complete(null);
+            }
+            @Override public Class<? extends Piece> onPawnExchange() {
+                return Queen.class;
+            }
+        }).moveDatabase(database).build();
+        new Thread(game).start();
+        //When
+        for (String move : new String[]{"e4", "d5", "exd5", "e5", "dxe6"})
+            game.handleEvent(new ChessEvent(move));
+        handled.get(5, TimeUnit.SECONDS);
+        //Then
+        assertEquals(5, database.movesCount());
+        int doublePush = database.move(0);
+        assertEquals(Board.index('e', 2), Move.from(doublePush));
+        assertEquals(Board.index('e', 4), Move.to(doublePush));
+        assertTrue(Move.is(doublePush, Move.DOUBLE_PUSH));
+        int capture = database.move(2);
+        assertEquals(Bitboards.PAWN, Move.captured(capture));
+        assertFalse(Move.is(capture, Move.EN_PASSANT));
+        int enPassant = database.move(4);
+        assertEquals(Bitboards.PAWN, Move.piece(enPassant));
+        assertTrue(Move.is(enPassant, Move.EN_PASSANT));
+        assertNull(game.board().square('e', 5).piece());
+        game.stopGame();
+    }
+
+    @Test
+    @DisplayName("Should allow only castlings permitted by the castling rights of the position")
+    public void castlingRightsTest() throws Exception {
+        //Given
+        final var illegalMoves = new int[]{0};
+        final var handled = new CompletableFuture<Void>();
+        final int[] moves = {0};
+        var game = new ChessGame.Builder(new ChessEventListener() {
+            @Override public void onMate(Color color) {}
+            @Override public void onDraw(DrawReason reason) {}
+            @Override public void onIllegalMove() {
+                illegalMoves[0]++;
+            }
+            @Override public void onMoveHandled() {
+                if (++moves[0] == 2) handled.complete(null);
+            }
+            @Override public Class<? extends Piece> onPawnExchange() {
+                return Queen.class;
+            }
+        }).fen("r3k2r/8/8/8/8/8/8/R3K2R w Kq - 0 1").build();
+        new Thread(game).start();
+        //When
+        for (String move : new String[]{"O-O-O", "O-O", "O-O", "O-O-O"})
+            game.handleEvent(new ChessEvent(move));
+        handled.get(5, TimeUnit.SECONDS);
+        //Then
+        assertEquals(2, illegalMoves[0]);
+        assertNotNull(game.board().square('g', 1).piece());
+        assertNotNull(game.board().square('c', 8).piece());
+        assertEquals(0, game.board().castlingRights());
+        game.stopGame();
+    }
+
+    @Test
+    @DisplayName("Should reject events submitted to a full queue")
+    public void rejectOverloadTest() throws Exception {
+        //Given
+        var game = new ChessGame.Builder(new QuietListener()).queueCapacity(2)
+                .overloadPolicy(OverloadPolicy.REJECT).build();
+        game.handleEvent(new ChessEvent("e4"));
+        game.handleEvent(new ChessEvent("e5"));
+        //When
+        assertThrows(GameOverloadedException.class, () -> game.handleEvent(new ChessEvent("Nf3")));
+        //Then
+        assertEquals(2, game.queueDepth());
+        assertEquals(1, game.rejectedEvents());
+        game.stopGame();
+    }
+
+    @Test
+    @DisplayName("Should block submission to a full queue until the game makes space by default")
+    public void blockOverloadTest() throws Exception {
+        //Given
+        var game = new ChessGame.Builder(new QuietListener()).queueCapacity(2).build();
+        game.handleEvent(new ChessEvent("e4"));
+        game.handleEvent(new ChessEvent("e5"));
+        var result = new CompletableFuture<MoveResult>();
+        var submitted = new CompletableFuture<Void>();
+        new Thread(() -> {
+            try {
+                game.handleEvent(new ChessEvent("Nf3", result));
+                submitted.complete(null);
+            } catch (InterruptedException e) {
+                submitted.completeExceptionally(e);
+            }
+        }).start();
+        //When
+        assertThrows(TimeoutException.class, () -> submitted.get(200, TimeUnit.MILLISECONDS));
+        new Thread(game).start();
+        //Then
+        submitted.get(5, TimeUnit.SECONDS);
+        assertTrue(result.get(5, TimeUnit.SECONDS).legal());
+        assertEquals(0, game.rejectedEvents());
+        game.stopGame();
+    }
+
+    @Test
+    @DisplayName("Should reject events which can't be queued within the block timeout")
+    public void blockTimeoutOverloadTest() throws Exception {
+        //Given
+        var game = new ChessGame.Builder(new QuietListener()).queueCapacity(2)
+                .overloadPolicy(OverloadPolicy.BLOCK).blockTimeout(Duration.ofMillis(50)).build();
+        game.handleEvent(new ChessEvent("e4"));
+        game.handleEvent(new ChessEvent("e5"));
+        //When
+        assertThrows(GameOverloadedException.class, () -> game.handleEvent(new ChessEvent("Nf3")));
+        //Then
+        assertEquals(2, game.queueDepth());
+        assertEquals(1, game.rejectedEvents());
+        game.stopGame();
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest events to make space in a full queue")
+    public void dropOldestOverloadTest() throws Exception {
+        //Given
+        var game = new ChessGame.Builder(new QuietListener()).queueCapacity(2)
+                .overloadPolicy(OverloadPolicy.DROP_OLDEST).build();
+        var oldest = new CompletableFuture<MoveResult>();
+        game.handleEvent(new ChessEvent("e4", oldest));
+        game.handleEvent(new ChessEvent("e5"));
+        //When
+        game.handleEvent(new ChessEvent("Nf3"));
+        //Then
+        var exception = assertThrows(ExecutionException.class, oldest::get);
+        assertTrue(exception.getCause() instanceof GameOverloadedException);
+        assertEquals(2, game.queueDepth());
+        assertEquals(1, game.droppedEvents());
+        game.stopGame();
+    }
+
+    @Test
+    @DisplayName("Should count events missed by a subscriber with a full buffer")
+    public void missedGameEventsTest() throws Exception {
+        //Given
+        final int moves = 2 * Flow.defaultBufferSize();
+        var game = new ChessGame(new QuietListener());
+        // never requests events, so all of them wait in its buffer
+        game.events().subscribe(new Flow.Subscriber<>() {
+            @Override public void onSubscribe(Flow.Subscription subscription) {}
+            @Override public void onNext(GameEvent item) {}
+            @Override public void onError(Throwable throwable) {}
+            @Override public void onComplete() {}
+        });
+        new Thread(game).start();
+        //When
+        for (int i = 1; i < moves; i++) game.handleEvent(new ChessEvent("Ke3"));
+        // the result is completed after the event of the last move has been published
+        var last = new CompletableFuture<MoveResult>();
+        game.handleEvent(new ChessEvent("Ke3", last));
+        last.get(5, TimeUnit.SECONDS);
+        //Then
+        assertTrue(game.missedGameEvents() >= moves - Flow.defaultBufferSize(),
+                   "Missed events: " + game.missedGameEvents());
+        game.stopGame();
+    }
+
+    @Test
+    @DisplayName("Should publish a new snapshot of the position after each move")
+    public void snapshotTest() throws Exception {
+        //Given
+        final var handled = new CompletableFuture<Void>();
+        var game = new ChessGame(new QuietListener() {
+            @Override public void onMoveHandled() {
+                handled.complete(null);
+            }
+        });
+        var initial = game.snapshot();
+        new Thread(game).start();
+        //When
+        game.handleEvent(new ChessEvent("e4"));
+        handled.get(5, TimeUnit.SECONDS);
+        var snapshot = game.snapshot();
+        //Then
+        assertEquals(0, initial.ply());
+        assertEquals(Bitboards.PAWN, initial.pieceType(12));
+        assertEquals(1, snapshot.ply());
+        assertEquals(Color.BLACK, snapshot.turn());
+        assertEquals(PositionSnapshot.EMPTY, snapshot.square(12));
+        assertEquals(Bitboards.PAWN, snapshot.pieceType(28));
+        assertEquals(Color.WHITE, snapshot.color(28));
+        assertEquals(20, snapshot.enPassantSquare());
+        assertEquals(game.board().zobristKey(), snapshot.zobristKey());
+        assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1", snapshot.toFEN());
+        var pawn = snapshot.piece(28);
+        assertTrue(pawn instanceof Pawn);
+        assertEquals(28, pawn.squareIndex());
+        assertNotSame(game.board().square(28).piece(), pawn);
+        assertNull(snapshot.piece(12));
+        game.stopGame();
+    }
+}
+
+class QuietListener implements ChessEventListener {
+    @Override public void onMate(Color winner) {}
+
+    @Override public void onDraw(DrawReason reason) {}
+
+    @Override public Class<? extends Piece> onPawnExchange() {
+        return Queen.class;
+    }
+}
@@ -0,0 +1,103 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static me.dzikimlecz.chessapi.game.board.Color.BLACK;
+import static me.dzikimlecz.chessapi.game.board.Color.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttackTablesTest {
+
+    private static long walk(int index, long occupancy, int[][] directions) {
+        long attacks = 0L;
+        for (int[] direction : directions) {
+            int line = index % 8 + direction[0];
+            int row = index / 8 + direction[1];
+            while (line >= 0 && line < 8 && row >= 0 && row < 8) {
+                long bit = 1L << (row * 8 + line);
+                attacks |= bit;
+                if ((occupancy & bit) != 0L) break;
+                line += direction[0];
+                row += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    @Test
+    @DisplayName("Should look up the same sliding attacks as walked along the rays")
+    public void slidingAttacksTest() {
+        //Given
+        final int[][] rookDirections = {{0, 1}, {0, -1}, {1, 0}, {-1, 0}};
+        final int[][] bishopDirections = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+        var random = new Random(64);
+        for (int i = 0; i < 20_000; i++) {
+            long occupancy = random.nextLong() & random.nextLong();
+            int index = random.nextInt(64);
+            //When
+            long rookAttacks = AttackTables.rookAttacks(index, occupancy);
+            long bishopAttacks = AttackTables.bishopAttacks(index, occupancy);
+            //Then
+            assertEquals(walk(index, occupancy, rookDirections), rookAttacks);
+            assertEquals(walk(index, occupancy, bishopDirections), bishopAttacks);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not count pawn's moves forward as attacks")
+    public void pawnAttacksTest() {
+        //Given
+        var board = Board.createFromFEN("4k3/8/8/8/8/8/4P3/4K3");
+        var state = board.getState();
+        //Then
+        assertFalse(state.isSquareAttacked(board.square('e', 3), BLACK));
+        assertFalse(state.isSquareAttacked(board.square('e', 4), BLACK));
+        assertTrue(state.isSquareAttacked(board.square('d', 3), BLACK));
+        assertTrue(state.isSquareAttacked(board.square('f', 3), BLACK));
+    }
+
+    @Test
+    @DisplayName("Should treat squares behind the attacked king as attacked")
+    public void kingOnLineOfAttackTest() {
+        //Given
+        var board = Board.createFromFEN("4k3/8/8/8/8/8/8/r3K3");
+        var state = board.getState();
+        //Then
+        assertTrue(state.isKingAttacked(WHITE));
+        assertTrue(state.isSquareAttacked(board.square('f', 1), WHITE));
+        assertFalse(state.isSquareAttacked(board.square('f', 2), WHITE));
+    }
+
+    @Test
+    @DisplayName("Should find attackers of a square, stopping rays at the first blocker")
+    public void attackersToTest() {
+        //Given
+        var board = Board.createFromFEN("3qk3/8/8/1b6/8/3R4/2P1N3/1Q1K4");
+        final long d3 = Bitboards.bit(board.square('d', 3).index());
+        //Then
+        assertEquals(Bitboards.bit(board.square('d', 8).index())
+                             | Bitboards.bit(board.square('b', 5).index()),
+                     board.attackersTo(board.square('d', 3).index(), BLACK));
+        assertEquals(Bitboards.bit(board.square('d', 1).index()) | d3,
+                     board.attackersTo(board.square('d', 2).index(), WHITE));
+        assertEquals(Bitboards.bit(board.square('c', 2).index()),
+                     board.attackersTo(board.square('d', 3).index(), WHITE));
+        assertEquals(0L, board.attackersTo(board.square('d', 1).index(), BLACK));
+        assertEquals(Bitboards.bit(board.square('d', 8).index()),
+                     board.attackersTo(board.square('d', 1).index(), BLACK, board.occupancy() & ~d3));
+    }
+
+    @Test
+    @DisplayName("Should treat only pieces standing between the king and a sliding piece as pinned")
+    public void pinnedPieceTest() {
+        //Given
+        var board = Board.createFromFEN("4k3/8/8/8/r2N1K2/8/B7/8");
+        var state = board.getState();
+        //Then
+        assertTrue(state.isPieceDefendingKing(board.square('d', 4).piece()));
+        assertFalse(state.isPieceDefendingKing(board.square('a', 2).piece()));
+    }
+}
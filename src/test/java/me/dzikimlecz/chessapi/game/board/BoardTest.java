@@ -5,11 +5,20 @@ import me.dzikimlecz.chessapi.game.board.square.Square;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.BiPredicate;
 
 import static java.text.MessageFormat.format;
 import static me.dzikimlecz.chessapi.game.board.Color.BLACK;
 import static me.dzikimlecz.chessapi.game.board.Color.WHITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class BoardTest {
@@ -59,5 +68,253 @@ class BoardTest {
         });
     }
 
+    @Test
+    @DisplayName("Should address the same squares by index as by chess notation")
+    public void squareIndexTest() {
+        //Given
+        var board = Board.create();
+        //Then
+        for (int row = 1; row <= 8; row++) {
+            for (char line = 'a'; line <= 'h'; line++) {
+                var square = board.square(line, row);
+                assertSame(square, board.square(square.index()));
+                var piece = square.piece();
+                if (piece != null) assertEquals(square.index(), piece.squareIndex());
+            }
+        }
+        assertEquals(0, board.square('a', 1).index());
+        assertEquals(63, board.square('h', 8).index());
+        assertEquals(board.square('f', 3).index(),
+                     Board.offset(board.square('g', 1).index(), -1, 2));
+        assertEquals(Board.NO_SQUARE, Board.offset(board.square('h', 1).index(), 1, 0));
+        assertEquals(Board.NO_SQUARE, Board.offset(board.square('a', 8).index(), 0, 1));
+    }
+
+    @Test
+    @DisplayName("Should hash equal positions equally, regardless of the way they were reached")
+    public void zobristKeyTest() {
+        //Given
+        var board = Board.create();
+        final long initialKey = board.zobristKey();
+        var knight = (Knight) board.square('g', 1).piece();
+        //When
+        knight.moveTo(board.square('f', 3));
+        final long movedKey = board.zobristKey();
+        knight.moveTo(board.square('g', 1));
+        //Then
+        assertEquals(initialKey, Board.createFromFEN("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR").zobristKey());
+        assertEquals(movedKey,
+                     Board.createFromFEN("rnbqkbnr/pppppppp/8/8/8/5N2/PPPPPPPP/RNBQKB1R")
+                             .zobristKey());
+        assertEquals(initialKey, board.zobristKey());
+        board.setTurn(BLACK);
+        assertNotEquals(initialKey, board.zobristKey());
+        board.setTurn(WHITE);
+        board.updateCastlingRights(board.square('h', 1).index(), board.square('h', 1).index());
+        assertNotEquals(initialKey, board.zobristKey());
+        assertEquals(Board.ALL_CASTLING_RIGHTS & ~Board.WHITE_SHORT_CASTLING, board.castlingRights());
+    }
+
+    @Test
+    @DisplayName("Should hash en passant target square only if the capture is possible")
+    public void enPassantKeyTest() {
+        //Given
+        var board = Board.createFromFEN("4k3/8/8/8/4P3/8/8/4K3");
+        var capturable = Board.createFromFEN("4k3/8/8/8/3pP3/8/8/4K3");
+        //When
+        board.setEnPassantSquare(board.square('e', 3).index());
+        board.setTurn(BLACK);
+        capturable.setEnPassantSquare(capturable.square('e', 3).index());
+        capturable.setTurn(BLACK);
+        var expected = Board.createFromFEN("4k3/8/8/8/4P3/8/8/4K3");
+        expected.setTurn(BLACK);
+        var expectedCapturable = Board.createFromFEN("4k3/8/8/8/3pP3/8/8/4K3");
+        expectedCapturable.setTurn(BLACK);
+        //Then
+        assertEquals(expected.zobristKey(), board.zobristKey());
+        assertNotEquals(expectedCapturable.zobristKey(), capturable.zobristKey());
+        capturable.setEnPassantSquare(Board.NO_SQUARE);
+        assertEquals(expectedCapturable.zobristKey(), capturable.zobristKey());
+    }
+
+    @Test
+    @DisplayName("Should share move deltas of pieces standing on the same squares")
+    public void sharedMoveDeltasTest() {
+        //Given
+        var board = Board.create();
+        var otherBoard = Board.create();
+        var queen = (Queen) board.square('d', 1).piece();
+        //When
+        queen.moveTo(board.square('d', 4));
+        var deltas = queen.moveDeltas();
+        queen.moveTo(board.square('d', 1));
+        //Then
+        assertEquals(27, deltas.size());
+        assertSame(queen.moveDeltas(), ((Queen) otherBoard.square('d', 1).piece()).moveDeltas());
+        assertThrows(UnsupportedOperationException.class, () -> deltas.add(new int[]{0, 0}));
+        assertEquals(Bitboards.bit(board.square('c', 3).index())
+                             | Bitboards.bit(board.square('a', 3).index())
+                             | Bitboards.bit(board.square('d', 2).index()),
+                     ((Knight) board.square('b', 1).piece()).moveTargets());
+    }
+
+    @Test
+    @DisplayName("Should keep lists of pieces consistent with content of the squares")
+    public void pieceListsTest() {
+        //Given
+        var board = Board.createFromFEN("r3k3/1P6/8/8/8/8/8/4K2R");
+        var pawn = (Pawn) board.square('b', 7).piece();
+        var king = (King) board.square('e', 1).piece();
+        //When
+        ((Rook) board.square('a', 8).piece()).beTaken();
+        pawn.moveTo(board.square('a', 8));
+        board.square('a', 8).putPiece(null);
+        new Queen(WHITE, board.square('a', 8));
+        king.moveTo(board.square('f', 2));
+        //Then
+        assertEquals(board.square('f', 2).index(), board.kingSquare(WHITE));
+        assertSame(king, board.getKing(WHITE));
+        assertEquals(board.square('e', 8).index(), board.kingSquare(BLACK));
+        for (Color color : Color.values()) {
+            int total = 0;
+            for (int typeIndex = Bitboards.PAWN; typeIndex <= Bitboards.KING; typeIndex++) {
+                final var type = Bitboards.type(typeIndex);
+                long listed = 0L;
+                for (int i = 0; i < board.pieceCount(color, typeIndex); i++) {
+                    var piece = board.square(board.pieceSquare(color, typeIndex, i)).piece();
+                    assertSame(type, piece.getClass());
+                    assertSame(color, piece.color());
+                    listed |= Bitboards.bit(piece.squareIndex());
+                }
+                total += board.pieceCount(color, typeIndex);
+                long scanned = 0L;
+                for (int index = 0; index < 64; index++) {
+                    var piece = board.square(index).piece();
+                    if (piece != null && piece.getClass() == type && piece.color() == color)
+                        scanned |= Bitboards.bit(index);
+                }
+                assertEquals(scanned, listed);
+            }
+            assertEquals(total, board.pieces(color).size());
+        }
+        assertEquals(3, board.pieces(WHITE).size());
+        assertEquals(1, board.pieces(BLACK).size());
+    }
+
+    private static String describePosition(Board board) {
+        return board + " " + board.zobristKey() + " " + board.turn() + " " + board.castlingRights()
+                + " " + board.enPassantSquare() + " " + board.occupancy(WHITE) + " "
+                + board.occupancy(BLACK) + " " + board.kingSquare(WHITE) + " " + board.kingSquare(BLACK);
+    }
+
+    private static int move(Board board, String move) {
+        int from = Board.index(move.charAt(0), move.charAt(1) - '0');
+        int to = Board.index(move.charAt(2), move.charAt(3) - '0');
+        int promotion = (move.length() == 5) ? Bitboards.typeIndex(Queen.class) : -1;
+        return Move.of(from, to, 0, promotion);
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should find pieces moving to each square with bitboards as their move deltas do")
+    public void piecesMovingToTest() {
+        var types = List.of(Pawn.class, Knight.class, Bishop.class, Rook.class, Queen.class, King.class);
+        for (String fen : List.of(
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R",
+                "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R"
+        )) {
+            //Given
+            var board = Board.createFromFEN(fen);
+            for (int index = 0; index < 64; index++) {
+                var square = board.square(index);
+                for (Color color : Color.values()) {
+                    for (var type : types) {
+                        //When
+                        var pieces = board.getPiecesMovingTo(square, type, color);
+                        //Then
+                        var expected = board.pieces(color).stream()
+                                .filter(piece -> type.isInstance(piece)
+                                        && (((Piece) piece).moveTargets() & Bitboards.bit(square.index())) != 0L)
+                                .sorted(Comparator.comparingInt(ChessPiece::squareIndex))
+                                .toList();
+                        assertEquals(expected, pieces, fen + " " + square + " " + type.getSimpleName());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should count pieces between squares with bitboards as scanning the squares does")
+    public void piecesBetweenTest() {
+        //Given
+        var board = Board.createFromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R");
+        var state = board.getState();
+        for (int index = 0; index < 64; index++) {
+            for (int index1 = 0; index1 < 64; index1++) {
+                var square = board.square(index);
+                var square1 = board.square(index1);
+                if (square == square1) continue;
+                final int line = Math.abs(square.line() - square1.line());
+                final int row = Math.abs(square.row() - square1.row());
+                if (line != 0 && row != 0 && line != row) continue;
+                //When
+                int count = state.countOfPiecesBetween(square, square1);
+                //Then
+                int expected = (int) board.squaresBetween(square, square1).stream()
+                        .filter(between -> between.piece() != null).count();
+                assertEquals(expected, count, square + " " + square1);
+                assertEquals(expected == 0, state.noPiecesBetween(square, square1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep bitboards updated after moving and taking pieces")
+    public void bitboardsUpdateTest() {
+        //Given
+        var board = Board.create();
+        var pawn = (Pawn) board.square('e', 2).piece();
+        var blackPawn = (Pawn) board.square('d', 7).piece();
+        //When
+        assertNotNull(pawn);
+        assertNotNull(blackPawn);
+        pawn.moveTo(board.square('e', 4));
+        blackPawn.moveTo(board.square('d', 5));
+        blackPawn.beTaken();
+        pawn.moveTo(board.square('d', 5));
+        //Then
+        long expectedPawns = 0xFF00L & ~(1L << 12) | (1L << 35);
+        assertEquals(expectedPawns, board.bitboard(WHITE, Pawn.class));
+        assertEquals(15, Long.bitCount(board.occupancy(BLACK)));
+        assertEquals(board.bitboard(WHITE, Pawn.class),
+                     Board.createFromFEN("rnbqkbnr/ppp1pppp/8/3P4/8/8/PPPP1PPP/RNBQKBNR")
+                             .bitboard(WHITE, Pawn.class));
+    }
+
+    @Test
+    @DisplayName("Should restore the exact position after unmaking moves")
+    public void makeUnmakeMoveTest() {
+        //Given
+        var board = Board.createFromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R");
+        final var initial = describePosition(board);
+        var pawn = (Pawn) board.square('a', 2).piece();
+        //When
+        long[] undo = new long[8];
+        int depth = 0;
+        for (String move : new String[]{"a2a4", "b4a3", "e1g1", "e8c8", "d5e6", "a3b2", "g2g3", "b2a1q"})
+            undo[depth++] = board.makeMove(move(board, move));
+        //Then
+        assertEquals(Board.NO_SQUARE, pawn.squareIndex());
+        assertNull(board.square('a', 4).piece());
+        assertTrue(board.square('g', 1).piece() instanceof King);
+        assertTrue(board.square('f', 1).piece() instanceof Rook);
+        assertTrue(board.square('d', 8).piece() instanceof Rook);
+        assertTrue(board.square('a', 1).piece() instanceof Queen);
+        assertEquals(0, board.castlingRights());
+        assertSame(WHITE, board.turn());
+        while (depth > 0) board.unmakeMove(undo[--depth]);
+        assertEquals(initial, describePosition(board));
+        assertSame(pawn, board.square('a', 2).piece());
+        assertEquals(0, pawn.movesCount());
+    }
+}
@@ -0,0 +1,64 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static me.dzikimlecz.chessapi.game.board.Color.BLACK;
+import static me.dzikimlecz.chessapi.game.board.Color.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    @Test
+    @DisplayName("Should generate all legal moves of the position")
+    public void legalMovesCountTest() {
+        //Given
+        var expectedCounts = Map.of(
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR", 20,
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R", 48,
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8", 14
+        );
+        var moves = new MoveList();
+        expectedCounts.forEach((fen, expected) -> {
+            final int count = expected;
+            var board = Board.createFromFEN(fen);
+            //When
+            int generated = board.legalMoves(WHITE, moves);
+            //Then
+            assertEquals(count, generated, fen);
+            assertEquals(count, moves.size(), fen);
+        });
+    }
+
+    @Test
+    @DisplayName("Should allow only moves stopping the check and keeping pinned pieces on their lines")
+    public void checkAndPinTest() {
+        //Given
+        var board = Board.createFromFEN("4k3/8/8/b7/8/8/3N4/r3K2R");
+        //When
+        var moves = board.legalMoves(WHITE);
+        //Then
+        // the knight is pinned by the bishop, the king is checked by the rook
+        assertFalse(moves.contains(board.square('d', 2).index(), board.square('b', 1).index()));
+        assertTrue(moves.contains(board.square('e', 1).index(), board.square('e', 2).index()));
+        assertTrue(moves.contains(board.square('e', 1).index(), board.square('f', 2).index()));
+        assertFalse(moves.contains(board.square('e', 1).index(), board.square('f', 1).index()));
+        assertFalse(moves.contains(board.square('e', 1).index(), board.square('g', 1).index()));
+        assertEquals(2, moves.size(), moves.toString());
+    }
+
+    @Test
+    @DisplayName("Should find no legal moves in mate and stalemate")
+    public void noLegalMovesTest() {
+        //Given
+        var mate = Board.createFromFEN("rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR");
+        var staleMate = Board.createFromFEN("7k/5Q2/6K1/8/8/8/8/8");
+        //Then
+        assertFalse(mate.hasLegalMove(WHITE));
+        assertTrue(mate.hasLegalMove(BLACK));
+        assertFalse(staleMate.hasLegalMove(BLACK));
+        assertTrue(staleMate.legalMoves(BLACK).isEmpty());
+    }
+}
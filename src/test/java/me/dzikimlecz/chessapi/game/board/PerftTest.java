@@ -0,0 +1,66 @@
+package me.dzikimlecz.chessapi.game.board;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static me.dzikimlecz.chessapi.game.board.Color.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+    private static final String KIWIPETE =
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    @Test
+    @DisplayName("Should count known perft nodes of test positions")
+    public void perftTest() {
+        //Given
+        var start = Board.createFromFEN("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+        var kiwipete = Board.createFromFEN(KIWIPETE);
+        var position3 = Board.createFromFEN("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+        var startKey = start.zobristKey();
+        //When
+        //Then
+        assertEquals(1L, Perft.perft(start, 0));
+        assertEquals(8_902L, Perft.perft(start, 3));
+        assertEquals(97_862L, Perft.perft(kiwipete, 3));
+        assertEquals(43_238L, Perft.perft(position3, 4));
+        assertEquals(startKey, start.zobristKey());
+    }
+
+    @Test
+    @DisplayName("Should count the same nodes in parallel as sequentially")
+    public void parallelPerftTest() {
+        //Given
+        var board = Board.createFromFEN(KIWIPETE);
+        var fen = board.toFEN();
+        var pool = new ForkJoinPool(4);
+        //When
+        long nodes;
+        try {
+            nodes = Perft.parallelPerft(board, WHITE, 3, pool);
+        } finally {
+            pool.shutdown();
+        }
+        //Then
+        assertEquals(97_862L, nodes);
+        assertEquals(Perft.perft(board, 3), nodes);
+        assertEquals(fen, board.toFEN());
+    }
+
+    @Test
+    @DisplayName("Should read and write all fields of FEN but move clocks")
+    public void fenTest() {
+        //Given
+        var fen = "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w Kq f6 0 1";
+        //When
+        var board = Board.createFromFEN(fen);
+        //Then
+        assertEquals(Color.WHITE, board.turn());
+        assertEquals(Board.WHITE_SHORT_CASTLING | Board.BLACK_LONG_CASTLING, board.castlingRights());
+        assertEquals(Board.index('f', 6), board.enPassantSquare());
+        assertEquals(fen, board.toFEN());
+        assertEquals(31L, Perft.perft(board, 1));
+    }
+}
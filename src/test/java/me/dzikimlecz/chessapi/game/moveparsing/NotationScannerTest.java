@@ -0,0 +1,77 @@
+package me.dzikimlecz.chessapi.game.moveparsing;
+
+import me.dzikimlecz.chessapi.game.board.Bitboards;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static me.dzikimlecz.chessapi.game.moveparsing.NotationScanner.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotationScannerTest {
+
+    @Test
+    @DisplayName("Should decode piece, starting coordinates, target square and flags")
+    public void scanTest() {
+        //Given
+        //When
+        int pawnMove = scan("e4");
+        int knightMove = scan("Nbd7");
+        int pawnCapture = scan("exd5+");
+        int longMove = scan("Hd1-h5#");
+        //Then
+        assertEquals(Bitboards.PAWN, pieceType(pawnMove));
+        assertEquals('e', toLine(pawnMove));
+        assertEquals(4, toRow(pawnMove));
+        assertEquals(0, fromLine(pawnMove));
+        assertEquals(0, fromRow(pawnMove));
+
+        assertEquals(Bitboards.KNIGHT, pieceType(knightMove));
+        assertEquals('b', fromLine(knightMove));
+        assertEquals(0, fromRow(knightMove));
+        assertEquals('d', toLine(knightMove));
+        assertEquals(7, toRow(knightMove));
+
+        assertEquals('e', fromLine(pawnCapture));
+        assertTrue(is(pawnCapture, CAPTURE));
+        assertTrue(is(pawnCapture, CHECK));
+
+        assertEquals(Bitboards.QUEEN, pieceType(longMove));
+        assertEquals('d', fromLine(longMove));
+        assertEquals(1, fromRow(longMove));
+        assertEquals('h', toLine(longMove));
+        assertEquals(5, toRow(longMove));
+        assertFalse(is(longMove, CAPTURE));
+        assertTrue(is(longMove, MATE));
+    }
+
+    @Test
+    @DisplayName("Should recognise castlings")
+    public void castlingTest() {
+        //Given
+        //When
+        int shortCastling = scan("O-O");
+        int longCastling = scan("0-0-0");
+        //Then
+        assertTrue(is(shortCastling, CASTLING));
+        assertFalse(is(shortCastling, LONG_CASTLING));
+        assertTrue(is(longCastling, LONG_CASTLING));
+        assertTrue(isCastling("o-o+"));
+        assertFalse(isCastling("O-O-O-O"));
+    }
+
+    @Test
+    @DisplayName("Should return error codes for invalid notation")
+    public void errorTest() {
+        //Given
+        //When
+        //Then
+        assertEquals(EMPTY, scan(""));
+        assertEquals(INCOMPLETE, scan("N"));
+        assertEquals(INCOMPLETE, scan("e4x"));
+        assertEquals(UNEXPECTED_CHARACTER, scan("e9"));
+        assertEquals(UNEXPECTED_CHARACTER, scan("Nxbxd7"));
+        assertEquals(INCOMPLETE, scan("O-"));
+        assertEquals(TOO_LONG, scan("Ka1b1c1"));
+        assertFalse(isMove("close"));
+    }
+}
@@ -0,0 +1,51 @@
+package me.dzikimlecz.chessapi.game.movestoring;
+
+import me.dzikimlecz.chessapi.game.board.Bitboards;
+import me.dzikimlecz.chessapi.game.board.Board;
+import me.dzikimlecz.chessapi.game.board.Move;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static me.dzikimlecz.chessapi.game.board.Color.BLACK;
+import static me.dzikimlecz.chessapi.game.board.Color.WHITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedMoveDatabaseTest {
+
+    @Test
+    @DisplayName("Should expose stored moves through live read-only views")
+    public void movesViewTest() {
+        //Given
+        var database = new PackedMoveDatabase();
+        var whiteMoves = database.moves(WHITE);
+        var blackMoves = database.moves(BLACK);
+        int e4 = pawnMove('e', 2, 'e', 4);
+        int e5 = pawnMove('e', 7, 'e', 5);
+        int knightMove = Move.withPiece(
+                Move.of(Board.index('g', 1), Board.index('f', 3)), Bitboards.KNIGHT);
+        //When
+        database.put(e4, "e4");
+        database.put(e5, "e5");
+        database.put(knightMove, "Nf3");
+        //Then
+        assertEquals(3, database.moves().size());
+        assertEquals(2, whiteMoves.size());
+        assertEquals(1, blackMoves.size());
+        assertEquals(knightMove, whiteMoves.last());
+        assertEquals(e5, blackMoves.get(0));
+        assertArrayEquals(new int[]{e4, e5, knightMove}, database.moves().stream().toArray());
+        var iterator = whiteMoves.iterator();
+        assertEquals(e4, iterator.nextInt());
+        assertEquals(knightMove, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+        assertEquals(BLACK, database.turnColor());
+        assertEquals(1, database.movesWithoutPawnCount());
+        assertEquals("e5", database.getLastMove(BLACK).notation());
+        assertEquals(knightMove, database.getLastMove().move());
+    }
+
+    private static int pawnMove(char fromLine, int fromRow, char toLine, int toRow) {
+        return Move.withPiece(Move.of(Board.index(fromLine, fromRow), Board.index(toLine, toRow),
+                                      Move.DOUBLE_PUSH), Bitboards.PAWN);
+    }
+}
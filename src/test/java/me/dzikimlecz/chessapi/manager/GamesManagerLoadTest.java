@@ -0,0 +1,177 @@
+package me.dzikimlecz.chessapi.manager;
+
+import me.dzikimlecz.chessapi.ChessEventListener;
+import me.dzikimlecz.chessapi.DrawReason;
+import me.dzikimlecz.chessapi.game.board.Color;
+import me.dzikimlecz.chessapi.game.board.pieces.Piece;
+import me.dzikimlecz.chessapi.game.board.pieces.Queen;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GamesManagerLoadTest {
+    private static final String[] MOVES = {"e4", "e5", "Nf3", "Nc6"};
+
+    @Test
+    @DisplayName("Should make progress in all games at once when running a thread per game")
+    public void threadPerGameLoadTest() throws Exception {
+        //Given
+        GamesManager<Integer> manager = GamesManager.newManager(
+                ManagerOptions.defaults().executionMode(ExecutionMode.THREAD_PER_GAME));
+        final int games = 250;
+        var progress = new Progress(games);
+        // each game waits in its first move until all the games have made theirs
+        for (int i = 0; i < games; i++) manager.newGame(i, new ProgressListener(progress, true));
+        //When
+        boolean handled = playMoves(manager, games, progress);
+        //Then
+        assertTrue(handled, "Not handled moves: " + progress.handled.getCount());
+        assertEquals(0, progress.stalledGames.get());
+        assertEquals(games, progress.peakGamesInProgress.get());
+    }
+
+    @Test
+    @DisplayName("Should play more games than threads when games are event-driven")
+    public void eventDrivenLoadTest() throws Exception {
+        //Given
+        final int parallelism = 2;
+        GamesManager<Integer> manager = GamesManager.newManager(
+                ManagerOptions.defaults().executionMode(ExecutionMode.EVENT_DRIVEN)
+                        .parallelism(parallelism).batchSize(2));
+        final int games = 1000;
+        var progress = new Progress(games);
+        for (int i = 0; i < games; i++) manager.newGame(i, new ProgressListener(progress, false));
+        //When
+        boolean handled = playMoves(manager, games, progress);
+        //Then
+        assertTrue(handled, "Not handled moves: " + progress.handled.getCount());
+        // all the games have been played to the end by no more threads than the pool has
+        assertEquals(0, progress.gamesInProgress.get());
+        assertTrue(progress.threads.size() <= parallelism, "Threads: " + progress.threads);
+    }
+
+    @Test
+    @DisplayName("Should spread games across shards and count their events")
+    public void shardedLoadTest() throws Exception {
+        //Given
+        var manager = new ShardedGamesManager<Integer>(ManagerOptions.defaults().shards(4));
+        final int games = 400;
+        var handled = new CountDownLatch(games * MOVES.length);
+        for (int i = 0; i < games; i++) manager.newGame(i, new CountingListener(handled));
+        //When
+        for (String move : MOVES)
+            for (int i = 0; i < games; i++) manager.move(i, move);
+        assertTrue(handled.await(30, TimeUnit.SECONDS), "Not handled moves: " + handled.getCount());
+        var metrics = manager.metrics();
+        manager.shutdown();
+        //Then
+        assertEquals(4, metrics.size());
+        assertEquals(games, metrics.stream().mapToInt(ShardedGamesManager.ShardMetrics::games).sum());
+        assertEquals((long) games * MOVES.length,
+                     metrics.stream().mapToLong(ShardedGamesManager.ShardMetrics::events).sum());
+        for (var shard : metrics) assertTrue(shard.games() > 0, "Empty shard: " + shard);
+    }
+
+    /**
+     * Plays the moves in all the games, sending each move to all games before the next one, so
+     * the games have to run concurrently.
+     * @return whether all the moves have been handled in time
+     */
+    private static boolean playMoves(GamesManager<Integer> manager, int games, Progress progress)
+            throws InterruptedException {
+        try {
+            for (String move : MOVES)
+                for (int i = 0; i < games; i++) manager.move(i, move);
+            return progress.handled.await(30, TimeUnit.SECONDS);
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    /**
+     * Progress of games played by {@link #playMoves(GamesManager, int, Progress)}, shared by their
+     * listeners.
+     */
+    private static final class Progress {
+        private final CountDownLatch handled;
+        private final CountDownLatch started;
+        private final AtomicInteger gamesInProgress = new AtomicInteger();
+        private final AtomicInteger peakGamesInProgress = new AtomicInteger();
+        private final AtomicInteger stalledGames = new AtomicInteger();
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        Progress(int games) {
+            handled = new CountDownLatch(games * MOVES.length);
+            started = new CountDownLatch(games);
+        }
+    }
+
+    private static final class ProgressListener implements ChessEventListener {
+        private final Progress progress;
+        private final boolean waitForAllGames;
+        private int handledMoves;
+
+        ProgressListener(Progress progress, boolean waitForAllGames) {
+            this.progress = progress;
+            this.waitForAllGames = waitForAllGames;
+        }
+
+        @Override public void onMate(Color winner) {}
+
+        @Override public void onDraw(DrawReason reason) {}
+
+        @Override public void onMoveHandled() {
+            progress.threads.add(Thread.currentThread());
+            handledMoves++;
+            if (handledMoves == 1) {
+                progress.peakGamesInProgress.accumulateAndGet(
+                        progress.gamesInProgress.incrementAndGet(), Math::max);
+                progress.started.countDown();
+                if (waitForAllGames) awaitAllGames();
+            } else if (handledMoves == MOVES.length) {
+                progress.gamesInProgress.decrementAndGet();
+            }
+            progress.handled.countDown();
+        }
+
+        private void awaitAllGames() {
+            try {
+                if (!progress.started.await(20, TimeUnit.SECONDS)) progress.stalledGames.incrementAndGet();
+            } catch (InterruptedException e) {
+                progress.stalledGames.incrementAndGet();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override public Class<? extends Piece> onPawnExchange() {
+            return Queen.class;
+        }
+    }
+}
+
+class CountingListener implements ChessEventListener {
+    private final CountDownLatch handled;
+
+    CountingListener(CountDownLatch handled) {
+        this.handled = handled;
+    }
+
+    @Override public void onMate(Color winner) {}
+
+    @Override public void onDraw(DrawReason reason) {}
+
+    @Override public void onMoveHandled() {
+        handled.countDown();
+    }
+
+    @Override public Class<? extends Piece> onPawnExchange() {
+        return Queen.class;
+    }
+}
@@ -2,6 +2,9 @@ package me.dzikimlecz.chessapi.manager;
 
 import me.dzikimlecz.chessapi.ChessEventListener;
 import me.dzikimlecz.chessapi.DrawReason;
+import me.dzikimlecz.chessapi.GameEvent;
+import me.dzikimlecz.chessapi.GameInfo;
+import me.dzikimlecz.chessapi.MoveResult;
 import me.dzikimlecz.chessapi.game.board.Color;
 import me.dzikimlecz.chessapi.game.board.pieces.ChessPiece;
 import me.dzikimlecz.chessapi.game.board.pieces.Pawn;
@@ -12,7 +15,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static me.dzikimlecz.chessapi.game.board.Color.WHITE;
 import static org.junit.jupiter.api.Assertions.*;
 
 class GamesManagerTest {
@@ -38,6 +51,182 @@ class GamesManagerTest {
         assertTrue(chessPiece instanceof Pawn);
     }
 
+    @Test
+    @DisplayName("Should register only one of games created concurrently under one key")
+    public void concurrentNewGameTest() throws Exception {
+        //Given
+        GamesManager<String> manager = GamesManager.newManager(
+                ManagerOptions.defaults().executionMode(ExecutionMode.EVENT_DRIVEN));
+        final var key = "key";
+        final int threads = 8;
+        var start = new CountDownLatch(1);
+        var created = new AtomicInteger();
+        var pool = Executors.newFixedThreadPool(threads);
+        //When
+        for (int i = 0; i < threads; i++)
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    manager.newGame(key, new Handler<>(manager, key));
+                    created.incrementAndGet();
+                } catch(IllegalStateException | InterruptedException ignored) {}
+            });
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        //Then
+        assertEquals(1, created.get());
+        assertFalse(manager.close(key));
+        manager.forceClose(key);
+        assertThrows(IllegalArgumentException.class, () -> manager.getTurn(key));
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should read copies of pieces, not the pieces of the game")
+    public void readTest() throws Exception {
+        //Given
+        GamesManager<String> manager = GamesManager.newManager(
+                ManagerOptions.defaults().executionMode(ExecutionMode.EVENT_DRIVEN));
+        final var key = "key";
+        var game = manager.newGame(key, new Handler<>(manager, key));
+        manager.submitMove(key, "e4").get(5, TimeUnit.SECONDS);
+        //When
+        var pawn = manager.read(key).get(3).get(4);
+        //Then
+        assertTrue(pawn instanceof Pawn);
+        assertEquals(WHITE, pawn.color());
+        assertNotSame(game.board().square('e', 4).piece(), pawn);
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should complete futures of submitted moves with their results")
+    public void submitMoveTest() throws Exception {
+        //Given
+        GamesManager<String> manager = GamesManager.newManager(
+                ManagerOptions.defaults().executionMode(ExecutionMode.EVENT_DRIVEN));
+        final var key = "key";
+        manager.newGame(key, new Handler<>(manager, key));
+        //When
+        var invalid = manager.submitMove(key, "Qz9");
+        var illegal = manager.submitMove(key, "e5");
+        var first = manager.submitMove(key, "f3");
+        manager.submitMove(key, "e5");
+        manager.submitMove(key, "g4");
+        var mate = manager.submitMove(key, "Qh4");
+        //Then
+        assertFalse(illegal.get(5, TimeUnit.SECONDS).legal());
+        var firstResult = first.get(5, TimeUnit.SECONDS);
+        assertTrue(firstResult.legal());
+        assertEquals(MoveResult.Outcome.NONE, firstResult.outcome());
+        var mateResult = mate.get(5, TimeUnit.SECONDS);
+        assertEquals(MoveResult.Outcome.MATE, mateResult.outcome());
+        assertEquals("Qh4#", mateResult.notation());
+        assertNotEquals(firstResult.positionKey(), mateResult.positionKey());
+        var exception = assertThrows(ExecutionException.class, () -> invalid.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return standard algebraic notation of captures and promotions")
+    public void submitMoveNotationTest() throws Exception {
+        //Given
+        GamesManager<String> manager = GamesManager.newManager(
+                ManagerOptions.defaults().executionMode(ExecutionMode.EVENT_DRIVEN));
+        manager.newGame("promotion", new Handler<>(manager, "promotion"));
+        manager.newGame("knights", new Handler<>(manager, "knights"));
+        for (String move : new String[]{"a4", "b5", "axb5", "a6", "bxa6", "Bb7", "axb7", "Nc6"})
+            manager.submitMove("promotion", move);
+        for (String move : new String[]{"Nc3", "d5", "Nf3", "d4", "Nb5", "e6"})
+            manager.submitMove("knights", move);
+        //When
+        var promotion = manager.submitMove("promotion", "bxa8").get(5, TimeUnit.SECONDS);
+        var capture = manager.submitMove("knights", "Nbxd4").get(5, TimeUnit.SECONDS);
+        //Then
+        assertTrue(promotion.legal());
+        assertEquals("bxa8=Q", promotion.notation());
+        assertTrue(capture.legal());
+        assertEquals("Nbxd4", capture.notation());
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should remove info of a game together with the game after it ends")
+    public void infoRemovalTest() throws Exception {
+        //Given
+        var manager = new DefaultGamesManager<String>(
+                ManagerOptions.defaults().executionMode(ExecutionMode.EVENT_DRIVEN));
+        final var key = "key";
+        var game = manager.newGame(key, new Handler<>(manager, key));
+        var info = new GameInfo<>(key, "white", "black");
+        manager.attachInfo(info);
+        assertSame(info, manager.getInfo(key));
+        //When
+        for (String move : new String[]{"f3", "e5", "g4"}) manager.submitMove(key, move);
+        manager.submitMove(key, "Qh4").get(5, TimeUnit.SECONDS);
+        boolean closed = manager.close(key);
+        //Then
+        assertTrue(closed);
+        assertNull(manager.registry(key).info(key, game));
+        assertThrows(IllegalArgumentException.class, () -> manager.getInfo(key));
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should make batches of moves back-to-back and stop at an illegal move")
+    public void moveBatchTest() throws Exception {
+        //Given
+        GamesManager<String> manager = GamesManager.newManager(
+                ManagerOptions.defaults().executionMode(ExecutionMode.EVENT_DRIVEN));
+        manager.newGame("mate", new Handler<>(manager, "mate"));
+        manager.newGame("illegal", new Handler<>(manager, "illegal"));
+        //When
+        var results = manager.moveBatch(Map.of(
+                "mate", List.of("f3", "e5", "g4", "Qh4"),
+                "illegal", List.of("e4", "e 5", "Ke3", "Nf3")
+        )).get(5, TimeUnit.SECONDS);
+        //Then
+        var mate = results.get("mate");
+        assertEquals(4, mate.size());
+        assertEquals(MoveResult.Outcome.MATE, mate.get(3).outcome());
+        var illegal = results.get("illegal");
+        assertEquals(3, illegal.size());
+        assertTrue(illegal.get(1).legal());
+        assertFalse(illegal.get(2).legal());
+        assertEquals(WHITE, manager.getTurn("illegal"));
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should publish events of games to subscribers of the game and of the manager")
+    public void eventsTest() throws Exception {
+        //Given
+        GamesManager<String> manager = GamesManager.newManager(
+                ManagerOptions.defaults().executionMode(ExecutionMode.EVENT_DRIVEN));
+        final var key = "key";
+        manager.newGame(key, new Handler<>(manager, key));
+        var managerEvents = new CollectingSubscriber();
+        var gameEvents = new CollectingSubscriber();
+        manager.events().subscribe(managerEvents);
+        manager.events(key).subscribe(gameEvents);
+        //When
+        for (String move : new String[]{"f3", "e5", "Ke3", "g4", "Qh4"}) manager.submitMove(key, move);
+        //Then
+        var events = gameEvents.completed.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(GameEvent.Type.MOVE, GameEvent.Type.MOVE, GameEvent.Type.ILLEGAL_MOVE,
+                             GameEvent.Type.MOVE, GameEvent.Type.MOVE, GameEvent.Type.MATE),
+                     events.stream().map(GameEvent::type).toList());
+        var last = events.get(events.size() - 1);
+        assertEquals(GameEvent.Type.MATE, last.type());
+        assertEquals(Color.BLACK, last.color());
+        assertEquals(key, last.game());
+        // the publisher of the manager completes, after delivering published events, on shutdown
+        manager.shutdown();
+        assertEquals(events, managerEvents.completed.get(5, TimeUnit.SECONDS));
+    }
+
 }
 
 class Handler<E> implements ChessEventListener {
@@ -92,4 +281,28 @@ class Handler<E> implements ChessEventListener {
     public Class<? extends Piece> onPawnExchange() {
         return Queen.class;
     }
-}
\ No newline at end of file
+}
+
+class CollectingSubscriber implements Flow.Subscriber<GameEvent> {
+    final List<GameEvent> events = new CopyOnWriteArrayList<>();
+    final CompletableFuture<List<GameEvent>> completed = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+
+    @Override public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override public void onNext(GameEvent item) {
+        events.add(item);
+        subscription.request(1);
+    }
+
+    @Override public void onError(Throwable throwable) {
+        completed.completeExceptionally(throwable);
+    }
+
+    @Override public void onComplete() {
+        completed.complete(events);
+    }
+}